@@ -0,0 +1,107 @@
+package com.reliaquest.api.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.reliaquest.api.dtos.Employee;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Remembers the names of the employees the api has recently seen in a list, get or create response. The mock server
+ * deletes by name, so a delete for a known id can go straight to {@code DELETE} instead of first fetching the employee.
+ *
+ * <p>A remembered name is only trusted while the id is still in the current {@link RosterSnapshot}: an employee
+ * deleted behind the api's back must not lend its name to a delete that would then remove a namesake. Once a snapshot
+ * is loaded it is the authority, and the remembered names only cover the time before the first load. At most
+ * {@code employee.name-lookup.max-entries} names are kept, least recently used first out.
+ *
+ * <p>Exposes {@code employee.name.lookup.requests} (tagged {@code outcome=hit|miss}) and
+ * {@code employee.name.lookup.size}.
+ */
+@Component
+public class EmployeeNameLookup {
+
+	// guarded by itself; access order, so the eldest entry is the least recently used
+	private final Map<String, String> namesById;
+
+	private final Counter hits;
+
+	private final Counter misses;
+
+	public EmployeeNameLookup(MeterRegistry meterRegistry,
+			@Value("${employee.name-lookup.max-entries:10000}") int maxEntries) {
+		this.namesById = new LinkedHashMap<>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+				return size() > maxEntries;
+			}
+		};
+		this.hits = Counter.builder("employee.name.lookup.requests").tag("outcome", "hit")
+				.description("Deletes that skipped the get-by-id round trip").register(meterRegistry);
+		this.misses = Counter.builder("employee.name.lookup.requests").tag("outcome", "miss")
+				.description("Deletes that had to fetch the employee to learn its name").register(meterRegistry);
+		Gauge.builder("employee.name.lookup.size", this, EmployeeNameLookup::size)
+				.description("Employee ids with a known name").register(meterRegistry);
+	}
+
+	public void remember(Employee employee) {
+		if (employee.getId() != null && employee.getEmployeeName() != null) {
+			synchronized (namesById) {
+				namesById.put(employee.getId(), employee.getEmployeeName());
+			}
+		}
+	}
+
+	/**
+	 * The name of the employee with {@code id}, confirmed against {@code current} when a snapshot has been loaded.
+	 * An id the snapshot no longer holds is forgotten and reported as a miss, so the caller asks upstream instead.
+	 */
+	public Optional<String> findName(String id, RosterSnapshot current) {
+		String name;
+		if (current != null) {
+			Employee employee = current.findById(id);
+			name = employee != null ? employee.getEmployeeName() : null;
+			if (name == null) {
+				forget(id);
+			}
+		} else {
+			synchronized (namesById) {
+				name = namesById.get(id);
+			}
+		}
+		if (name == null) {
+			misses.increment();
+			return Optional.empty();
+		}
+		hits.increment();
+		return Optional.of(name);
+	}
+
+	public void forget(String id) {
+		synchronized (namesById) {
+			namesById.remove(id);
+		}
+	}
+
+	public long getHitCount() {
+		return (long) hits.count();
+	}
+
+	public long getMissCount() {
+		return (long) misses.count();
+	}
+
+	private int size() {
+		synchronized (namesById) {
+			return namesById.size();
+		}
+	}
+}
@@ -0,0 +1,228 @@
+package com.reliaquest.api.cache;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.reliaquest.api.dtos.Employee;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Holds the last good {@link RosterSnapshot} and refreshes it with stale-while-revalidate semantics: once the snapshot
+ * is older than the configured TTL, the next reader triggers a background reload and is served the stale snapshot
+ * immediately. Only the very first read (no snapshot yet) waits for the upstream call. At most one reload is in flight
+ * at any time.
+ *
+ * <p>Creates and deletes made through the api are written through to the current snapshot and recorded in a small
+ * journal. A reload that was already on the wire when a write happened may or may not reflect it, so every loaded
+ * roster is reconciled with the journal before it is published: journalled creates are re-added and journalled deletes
+ * re-applied until a load confirms them. Loads are also ticketed, and a load that started before the one already
+ * published is dropped, so a slow refresh can never replace newer data.
+ */
+@Component
+public class EmployeeRosterCache {
+
+	private final Logger logger = LoggerFactory.getLogger(EmployeeRosterCache.class);
+
+	private final Duration ttl;
+
+	private final Duration journalRetention;
+
+	private final AtomicReference<RosterSnapshot> snapshot = new AtomicReference<>();
+
+	private final AtomicReference<Mono<RosterSnapshot>> inFlightRefresh = new AtomicReference<>();
+
+	private final AtomicLong versions = new AtomicLong();
+
+	private final AtomicLong loadTickets = new AtomicLong();
+
+	// guarded by this; readers only ever touch the snapshot reference
+	private final List<JournalEntry> journal = new ArrayList<>();
+
+	private long publishedTicket;
+
+	public EmployeeRosterCache(@Value("${employee.roster.cache.ttl:30s}") Duration ttl) {
+		this.ttl = ttl;
+		// by then a reload issued after the write has normally completed and confirmed it
+		this.journalRetention = ttl.multipliedBy(2).plusSeconds(10);
+	}
+
+	/**
+	 * Returns the current snapshot, loading it through {@code loader} when none exists yet and scheduling a background
+	 * reload when it has expired.
+	 */
+	public Mono<RosterSnapshot> getSnapshot(Supplier<Mono<List<Employee>>> loader) {
+		return Mono.defer(() -> {
+			RosterSnapshot current = snapshot.get();
+			if (current == null) {
+				logger.debug("EmployeeRosterCache|getSnapshot|Cold cache, loading roster");
+				return refresh(loader);
+			}
+			if (current.isOlderThan(ttl, Instant.now())) {
+				logger.debug("EmployeeRosterCache|getSnapshot|Snapshot v{} expired, refreshing in background",
+						current.getVersion());
+				refresh(loader);
+			}
+			return Mono.just(current);
+		});
+	}
+
+	/**
+	 * The snapshot currently published, or null before the first load. Never triggers a load.
+	 */
+	public RosterSnapshot getCurrentSnapshot() {
+		return snapshot.get();
+	}
+
+	/**
+	 * Wraps a roster download made outside of the cache (e.g. by {@code GET /}) so its result is published too and the
+	 * roster is not downloaded twice. The caller still receives the list exactly as upstream returned it.
+	 */
+	public Mono<List<Employee>> publishing(Supplier<Mono<List<Employee>>> loader) {
+		return Mono.defer(() -> {
+			long ticket = loadTickets.incrementAndGet();
+			return loader.get().doOnNext(employees -> publish(ticket, employees));
+		});
+	}
+
+	/**
+	 * Publishes a roster that has just been fetched.
+	 */
+	public RosterSnapshot publish(List<Employee> employees) {
+		return publish(loadTickets.incrementAndGet(), employees);
+	}
+
+	/**
+	 * Writes a successful create through to the current snapshot.
+	 */
+	public synchronized void applyCreated(Employee employee) {
+		if (employee.getId() == null) {
+			return;
+		}
+		journal.add(new JournalEntry(employee.getId(), employee, Instant.now()));
+		RosterSnapshot current = snapshot.get();
+		// a reload may have raced ahead of the create response and already contain the employee
+		if (current != null && !current.containsId(employee.getId())) {
+			RosterSnapshot updated = current.withEmployeeAdded(versions.incrementAndGet(), employee);
+			snapshot.set(updated);
+			logger.debug("EmployeeRosterCache|applyCreated|Published snapshot v{}", updated.getVersion());
+		}
+	}
+
+	/**
+	 * Writes a successful delete-by-name through to the current snapshot. The server removes the first employee with a
+	 * matching name, which is not necessarily {@code id} when names repeat, so the snapshot decides which one goes.
+	 */
+	public synchronized void applyDeleted(String id, String employeeName) {
+		RosterSnapshot current = snapshot.get();
+		Employee removed = current == null ? null : current.firstNamed(employeeName);
+		String removedId = removed != null ? removed.getId() : id;
+		if (removedId == null) {
+			return;
+		}
+		// a create followed by its delete cancels out
+		journal.removeIf(entry -> entry.created != null && removedId.equals(entry.id));
+		journal.add(new JournalEntry(removedId, null, Instant.now()));
+		if (removed != null) {
+			RosterSnapshot updated = current.withEmployeeRemoved(versions.incrementAndGet(), removed);
+			snapshot.set(updated);
+			logger.debug("EmployeeRosterCache|applyDeleted|Published snapshot v{}", updated.getVersion());
+		}
+	}
+
+	private synchronized RosterSnapshot publish(long ticket, List<Employee> loaded) {
+		RosterSnapshot current = snapshot.get();
+		if (current != null && ticket < publishedTicket) {
+			logger.debug("EmployeeRosterCache|publish|Dropping load #{}, load #{} is already published", ticket,
+					publishedTicket);
+			return current;
+		}
+		publishedTicket = ticket;
+
+		List<Employee> employees = reconcile(loaded);
+		RosterSnapshot published = new RosterSnapshot(versions.incrementAndGet(), employees, Instant.now());
+		snapshot.set(published);
+		logger.debug("EmployeeRosterCache|publish|Published snapshot v{} with {} employees", published.getVersion(),
+				employees.size());
+		return published;
+	}
+
+	private List<Employee> reconcile(List<Employee> loaded) {
+		if (journal.isEmpty()) {
+			return loaded;
+		}
+		Set<String> loadedIds = new HashSet<>();
+		for (Employee employee : loaded) {
+			loadedIds.add(employee.getId());
+		}
+		List<Employee> employees = new ArrayList<>(loaded);
+		Instant expiry = Instant.now().minus(journalRetention);
+		for (Iterator<JournalEntry> entries = journal.iterator(); entries.hasNext();) {
+			JournalEntry entry = entries.next();
+			boolean upstreamHasIt = loadedIds.contains(entry.id);
+			// confirmed once upstream agrees; entries that never do were overtaken by other clients and just expire
+			if (upstreamHasIt == (entry.created != null) || entry.recordedAt.isBefore(expiry)) {
+				entries.remove();
+			} else if (entry.created != null) {
+				employees.add(entry.created);
+			} else {
+				employees.removeIf(employee -> entry.id.equals(employee.getId()));
+			}
+		}
+		return employees;
+	}
+
+	private Mono<RosterSnapshot> refresh(Supplier<Mono<List<Employee>>> loader) {
+		Sinks.One<RosterSnapshot> sink = Sinks.one();
+		Mono<RosterSnapshot> refresh = sink.asMono();
+		Mono<RosterSnapshot> existing = inFlightRefresh.compareAndExchange(null, refresh);
+		if (existing != null) {
+			return existing;
+		}
+
+		Mono.defer(() -> {
+			long ticket = loadTickets.incrementAndGet();
+			return Mono.defer(loader)
+					.switchIfEmpty(Mono.error(() -> new IllegalStateException("Upstream returned no employee roster")))
+					.map(employees -> publish(ticket, employees));
+		}).subscribe(published -> {
+			inFlightRefresh.set(null);
+			sink.tryEmitValue(published);
+		}, error -> {
+			inFlightRefresh.set(null);
+			logger.warn("EmployeeRosterCache|refresh|Error:{}", error.getMessage());
+			sink.tryEmitError(error);
+		});
+		return refresh;
+	}
+
+	/**
+	 * A create ({@code created} set) or a delete ({@code created} null) of the employee with {@code id}.
+	 */
+	private static final class JournalEntry {
+
+		private final String id;
+		private final Employee created;
+		private final Instant recordedAt;
+
+		private JournalEntry(String id, Employee created, Instant recordedAt) {
+			this.id = id;
+			this.created = created;
+			this.recordedAt = recordedAt;
+		}
+	}
+}
@@ -0,0 +1,292 @@
+package com.reliaquest.api.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.reliaquest.api.dtos.Employee;
+
+/**
+ * Case-folded trigram index over employee names, kept with every {@link RosterSnapshot}. A substring query of three or
+ * more characters intersects the posting lists of its trigrams and only verifies the surviving candidates; shorter
+ * queries scan the pre-folded names. Either way the result is exactly what
+ * {@code name.toLowerCase().contains(query.toLowerCase())} over the roster would return, in roster order.
+ *
+ * <p>Employees occupy slots in roster order. Creates append a slot, deletes leave a tombstone, and the index is rebuilt
+ * once tombstones outnumber live slots. Slots and posting lists are kept in {@link PersistentSortedMap}s, and each
+ * posting list is itself split into small persistent chunks, so a create or delete copies only what it changes: a
+ * create copies the last chunk of each of its trigrams' lists, however common the trigram. Instances are never mutated
+ * after construction.
+ */
+public final class NameTrigramIndex {
+
+	// live slots only; postings may still list removed slots until the next rebuild
+	private final PersistentSortedMap<Integer, Slot> slots;
+	private final PersistentSortedMap<Long, Posting> postings;
+	private final int nextSlot;
+	private final int tombstones;
+
+	private NameTrigramIndex(PersistentSortedMap<Integer, Slot> slots, PersistentSortedMap<Long, Posting> postings,
+			int nextSlot, int tombstones) {
+		this.slots = slots;
+		this.postings = postings;
+		this.nextSlot = nextSlot;
+		this.tombstones = tombstones;
+	}
+
+	static NameTrigramIndex of(Collection<Employee> employees) {
+		List<Map.Entry<Integer, Slot>> slots = new ArrayList<>(employees.size());
+		Map<Long, PostingBuilder> builders = new HashMap<>();
+		for (Employee employee : employees) {
+			int slot = slots.size();
+			String folded = fold(employee);
+			slots.add(Map.entry(slot, new Slot(employee, folded)));
+			if (folded == null) {
+				continue;
+			}
+			for (int i = 0; i + 3 <= folded.length(); i++) {
+				builders.computeIfAbsent(trigram(folded, i), key -> new PostingBuilder()).add(slot);
+			}
+		}
+		List<Map.Entry<Long, Posting>> postings = new ArrayList<>(builders.size());
+		builders.forEach((key, builder) -> postings.add(Map.entry(key, Posting.of(builder.toArray()))));
+		postings.sort(Map.Entry.comparingByKey());
+		return new NameTrigramIndex(PersistentSortedMap.ofSorted(Comparator.naturalOrder(), slots),
+				PersistentSortedMap.ofSorted(Comparator.naturalOrder(), postings), slots.size(), 0);
+	}
+
+	/*
+	 * Touches only the posting lists of the new name's trigrams, and of each only its last chunk.
+	 */
+	NameTrigramIndex withAdded(Employee employee) {
+		int slot = nextSlot;
+		String folded = fold(employee);
+		PersistentSortedMap<Long, Posting> newPostings = postings;
+		if (folded != null) {
+			for (int i = 0; i + 3 <= folded.length(); i++) {
+				long trigram = trigram(folded, i);
+				Posting posting = newPostings.get(trigram);
+				// the new slot is the largest, so appending keeps every posting list sorted
+				if (posting == null) {
+					newPostings = newPostings.put(trigram, Posting.of(new int[] { slot }));
+				} else if (posting.last() != slot) {
+					newPostings = newPostings.put(trigram, posting.append(slot));
+				}
+			}
+		}
+		return new NameTrigramIndex(slots.put(slot, new Slot(employee, folded)), newPostings, slot + 1, tombstones);
+	}
+
+	NameTrigramIndex withRemoved(Employee employee) {
+		Integer slot = slotOf(employee);
+		if (slot == null) {
+			return this;
+		}
+		int live = slots.size() - 1;
+		if (tombstones + 1 > live) {
+			PersistentSortedMap<Integer, Slot> remaining = slots.remove(slot);
+			List<Employee> employees = new ArrayList<>(live);
+			for (Slot entry : remaining.values()) {
+				employees.add(entry.employee);
+			}
+			return of(employees);
+		}
+		// postings keep pointing at the removed slot; lookups skip it
+		return new NameTrigramIndex(slots.remove(slot), postings, nextSlot, tombstones + 1);
+	}
+
+	/**
+	 * Employees whose name contains {@code searchString}, ignoring case, in roster order.
+	 */
+	public List<Employee> search(String searchString) {
+		String query = searchString.toLowerCase();
+		if (query.length() < 3) {
+			return scan(query);
+		}
+
+		Posting[] lists = new Posting[query.length() - 2];
+		for (int i = 0; i < lists.length; i++) {
+			Posting posting = postings.get(trigram(query, i));
+			if (posting == null) {
+				return List.of();
+			}
+			lists[i] = posting;
+		}
+		Arrays.sort(lists, (left, right) -> Integer.compare(left.size, right.size));
+
+		int[] candidates = lists[0].toArray();
+		int count = candidates.length;
+		for (int i = 1; i < lists.length && count > 0; i++) {
+			int[] next = new int[count];
+			count = intersect(candidates, count, lists[i].toArray(), next);
+			candidates = next;
+		}
+
+		// trigrams only prove the pieces occur; contains() checks they occur contiguously
+		List<Employee> result = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			Slot slot = slots.get(candidates[i]);
+			if (slot != null && slot.foldedName.contains(query)) {
+				result.add(slot.employee);
+			}
+		}
+		return result;
+	}
+
+	private static int intersect(int[] left, int leftCount, int[] right, int[] out) {
+		int count = 0;
+		int i = 0;
+		int j = 0;
+		while (i < leftCount && j < right.length) {
+			if (left[i] < right[j]) {
+				i++;
+			} else if (left[i] > right[j]) {
+				j++;
+			} else {
+				out[count++] = left[i];
+				i++;
+				j++;
+			}
+		}
+		return count;
+	}
+
+	private List<Employee> scan(String query) {
+		List<Employee> result = new ArrayList<>();
+		for (Slot slot : slots.values()) {
+			if (slot.foldedName != null && slot.foldedName.contains(query)) {
+				result.add(slot.employee);
+			}
+		}
+		return result;
+	}
+
+	/*
+	 * The slot holding this very instance. A name with a trigram is looked up through its shortest posting list; only
+	 * names too short for one are searched for among all slots.
+	 */
+	private Integer slotOf(Employee employee) {
+		String folded = fold(employee);
+		if (folded != null && folded.length() >= 3) {
+			Posting shortest = null;
+			for (int i = 0; i + 3 <= folded.length(); i++) {
+				Posting posting = postings.get(trigram(folded, i));
+				if (posting == null) {
+					return null;
+				}
+				if (shortest == null || posting.size < shortest.size) {
+					shortest = posting;
+				}
+			}
+			for (int slot : shortest.toArray()) {
+				Slot candidate = slots.get(slot);
+				if (candidate != null && candidate.employee == employee) {
+					return slot;
+				}
+			}
+			return null;
+		}
+		for (Map.Entry<Integer, Slot> entry : slots.tailEntries(Integer.MIN_VALUE)) {
+			if (entry.getValue().employee == employee) {
+				return entry.getKey();
+			}
+		}
+		return null;
+	}
+
+	private static String fold(Employee employee) {
+		return employee.getEmployeeName() == null ? null : employee.getEmployeeName().toLowerCase();
+	}
+
+	private static long trigram(String folded, int offset) {
+		return ((long) folded.charAt(offset) << 32) | ((long) folded.charAt(offset + 1) << 16)
+				| folded.charAt(offset + 2);
+	}
+
+	private static final class Slot {
+
+		private final Employee employee;
+		private final String foldedName;
+
+		private Slot(Employee employee, String foldedName) {
+			this.employee = employee;
+			this.foldedName = foldedName;
+		}
+	}
+
+	/*
+	 * The ascending slots of one trigram, in chunks keyed by their number. Every chunk but the last is full, so the
+	 * chunk holding position p is p / CHUNK_SIZE.
+	 */
+	private static final class Posting {
+
+		private static final int CHUNK_SIZE = 64;
+
+		private final PersistentSortedMap<Integer, int[]> chunks;
+		private final int size;
+
+		private Posting(PersistentSortedMap<Integer, int[]> chunks, int size) {
+			this.chunks = chunks;
+			this.size = size;
+		}
+
+		static Posting of(int[] slots) {
+			List<Map.Entry<Integer, int[]>> chunks = new ArrayList<>(slots.length / CHUNK_SIZE + 1);
+			for (int from = 0; from < slots.length; from += CHUNK_SIZE) {
+				chunks.add(Map.entry(from / CHUNK_SIZE,
+						Arrays.copyOfRange(slots, from, Math.min(slots.length, from + CHUNK_SIZE))));
+			}
+			return new Posting(PersistentSortedMap.ofSorted(Comparator.naturalOrder(), chunks), slots.length);
+		}
+
+		int last() {
+			int[] chunk = chunks.get((size - 1) / CHUNK_SIZE);
+			return chunk[chunk.length - 1];
+		}
+
+		Posting append(int slot) {
+			if (size % CHUNK_SIZE == 0) {
+				return new Posting(chunks.put(size / CHUNK_SIZE, new int[] { slot }), size + 1);
+			}
+			int[] chunk = chunks.get(size / CHUNK_SIZE);
+			int[] appended = Arrays.copyOf(chunk, chunk.length + 1);
+			appended[chunk.length] = slot;
+			return new Posting(chunks.put(size / CHUNK_SIZE, appended), size + 1);
+		}
+
+		int[] toArray() {
+			int[] slots = new int[size];
+			int position = 0;
+			for (int[] chunk : chunks.values()) {
+				System.arraycopy(chunk, 0, slots, position, chunk.length);
+				position += chunk.length;
+			}
+			return slots;
+		}
+	}
+
+	private static final class PostingBuilder {
+
+		private int[] slots = new int[4];
+		private int size;
+
+		void add(int slot) {
+			// slots arrive in ascending order; a name repeating a trigram must not list its slot twice
+			if (size > 0 && slots[size - 1] == slot) {
+				return;
+			}
+			if (size == slots.length) {
+				slots = Arrays.copyOf(slots, size * 2);
+			}
+			slots[size++] = slot;
+		}
+
+		int[] toArray() {
+			return Arrays.copyOf(slots, size);
+		}
+	}
+}
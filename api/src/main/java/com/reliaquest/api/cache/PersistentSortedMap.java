@@ -0,0 +1,341 @@
+package com.reliaquest.api.cache;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Immutable sorted map that derives updated copies in O(log n): a treap whose updates copy only the path from the root
+ * to the changed node and share every other node with the map they were derived from. This is what lets a
+ * {@link RosterSnapshot} and its indexes absorb a create or delete without copying the roster.
+ *
+ * <p>Nodes also count their subtree, so the entry at a given position is found in O(log n) as well. Keys must not be
+ * null and must be consistent with the comparator; values must not be null.
+ */
+final class PersistentSortedMap<K, V> {
+
+	private final Comparator<? super K> comparator;
+	private final Node<K, V> root;
+
+	private PersistentSortedMap(Comparator<? super K> comparator, Node<K, V> root) {
+		this.comparator = comparator;
+		this.root = root;
+	}
+
+	static <K, V> PersistentSortedMap<K, V> empty(Comparator<? super K> comparator) {
+		return new PersistentSortedMap<>(comparator, null);
+	}
+
+	/**
+	 * Builds a balanced map in O(n) from entries already sorted by {@code comparator}. Of several entries with equal
+	 * keys only the first is kept.
+	 */
+	static <K, V> PersistentSortedMap<K, V> ofSorted(Comparator<? super K> comparator,
+			List<? extends Map.Entry<K, V>> sortedEntries) {
+		List<? extends Map.Entry<K, V>> distinct = sortedEntries;
+		for (int i = 1; i < sortedEntries.size(); i++) {
+			if (comparator.compare(sortedEntries.get(i - 1).getKey(), sortedEntries.get(i).getKey()) == 0) {
+				distinct = dropDuplicates(comparator, sortedEntries);
+				break;
+			}
+		}
+		return new PersistentSortedMap<>(comparator, build(distinct, 0, distinct.size(), 0));
+	}
+
+	int size() {
+		return sizeOf(root);
+	}
+
+	boolean isEmpty() {
+		return root == null;
+	}
+
+	V get(K key) {
+		Node<K, V> node = root;
+		while (node != null) {
+			int order = comparator.compare(key, node.key);
+			if (order == 0) {
+				return node.value;
+			}
+			node = order < 0 ? node.left : node.right;
+		}
+		return null;
+	}
+
+	boolean containsKey(K key) {
+		return get(key) != null;
+	}
+
+	/**
+	 * The entry with the least key greater than or equal to {@code key}, or null.
+	 */
+	Map.Entry<K, V> ceilingEntry(K key) {
+		Node<K, V> node = root;
+		Node<K, V> ceiling = null;
+		while (node != null) {
+			int order = comparator.compare(key, node.key);
+			if (order == 0) {
+				return node;
+			}
+			if (order < 0) {
+				ceiling = node;
+				node = node.left;
+			} else {
+				node = node.right;
+			}
+		}
+		return ceiling;
+	}
+
+	Map.Entry<K, V> firstEntry() {
+		Node<K, V> node = root;
+		while (node != null && node.left != null) {
+			node = node.left;
+		}
+		return node;
+	}
+
+	/**
+	 * The map with {@code key} mapped to {@code value}; a new key gets a random priority, which keeps the expected depth
+	 * logarithmic whatever the insertion order.
+	 */
+	PersistentSortedMap<K, V> put(K key, V value) {
+		return new PersistentSortedMap<>(comparator,
+				insert(root, key, value, ThreadLocalRandom.current().nextInt()));
+	}
+
+	/**
+	 * The map without {@code key}, or this map when it has no such key.
+	 */
+	PersistentSortedMap<K, V> remove(K key) {
+		Node<K, V> updated = delete(root, key);
+		return updated == root ? this : new PersistentSortedMap<>(comparator, updated);
+	}
+
+	/**
+	 * Entries in key order, starting at the least key greater than or equal to {@code fromKey}.
+	 */
+	Iterable<Map.Entry<K, V>> tailEntries(K fromKey) {
+		return () -> new EntryIterator<>(root, fromKey, comparator);
+	}
+
+	/**
+	 * Read-only view of the values in key order, with O(log n) positional access.
+	 */
+	List<V> values() {
+		return new AbstractList<>() {
+
+			@Override
+			public V get(int index) {
+				if (index < 0 || index >= sizeOf(root)) {
+					throw new IndexOutOfBoundsException(index);
+				}
+				Node<K, V> node = root;
+				while (true) {
+					int leftSize = sizeOf(node.left);
+					if (index < leftSize) {
+						node = node.left;
+					} else if (index == leftSize) {
+						return node.value;
+					} else {
+						index -= leftSize + 1;
+						node = node.right;
+					}
+				}
+			}
+
+			@Override
+			public int size() {
+				return sizeOf(root);
+			}
+
+			@Override
+			public Iterator<V> iterator() {
+				EntryIterator<K, V> entries = new EntryIterator<>(root, null, comparator);
+				return new Iterator<>() {
+
+					@Override
+					public boolean hasNext() {
+						return entries.hasNext();
+					}
+
+					@Override
+					public V next() {
+						return entries.next().getValue();
+					}
+				};
+			}
+		};
+	}
+
+	private Node<K, V> insert(Node<K, V> node, K key, V value, int priority) {
+		if (node == null) {
+			return new Node<>(key, value, priority, null, null);
+		}
+		int order = comparator.compare(key, node.key);
+		if (order == 0) {
+			return new Node<>(node.key, value, node.priority, node.left, node.right);
+		}
+		if (order < 0) {
+			Node<K, V> left = insert(node.left, key, value, priority);
+			if (left.priority > node.priority) {
+				// rotate right
+				return new Node<>(left.key, left.value, left.priority, left.left,
+						new Node<>(node.key, node.value, node.priority, left.right, node.right));
+			}
+			return new Node<>(node.key, node.value, node.priority, left, node.right);
+		}
+		Node<K, V> right = insert(node.right, key, value, priority);
+		if (right.priority > node.priority) {
+			// rotate left
+			return new Node<>(right.key, right.value, right.priority,
+					new Node<>(node.key, node.value, node.priority, node.left, right.left), right.right);
+		}
+		return new Node<>(node.key, node.value, node.priority, node.left, right);
+	}
+
+	private Node<K, V> delete(Node<K, V> node, K key) {
+		if (node == null) {
+			return null;
+		}
+		int order = comparator.compare(key, node.key);
+		if (order == 0) {
+			return merge(node.left, node.right);
+		}
+		if (order < 0) {
+			Node<K, V> left = delete(node.left, key);
+			return left == node.left ? node : new Node<>(node.key, node.value, node.priority, left, node.right);
+		}
+		Node<K, V> right = delete(node.right, key);
+		return right == node.right ? node : new Node<>(node.key, node.value, node.priority, node.left, right);
+	}
+
+	/*
+	 * Joins two treaps whose keys are all ordered left before right.
+	 */
+	private static <K, V> Node<K, V> merge(Node<K, V> left, Node<K, V> right) {
+		if (left == null) {
+			return right;
+		}
+		if (right == null) {
+			return left;
+		}
+		if (left.priority > right.priority) {
+			return new Node<>(left.key, left.value, left.priority, left.left, merge(left.right, right));
+		}
+		return new Node<>(right.key, right.value, right.priority, merge(left, right.left), right.right);
+	}
+
+	/*
+	 * Priorities fall with depth, so the balanced shape is a valid treap; keys added later get random priorities, which
+	 * in practice always rank below these and settle in as a treap of their own between the built nodes.
+	 */
+	private static <K, V> Node<K, V> build(List<? extends Map.Entry<K, V>> entries, int from, int to, int depth) {
+		if (from >= to) {
+			return null;
+		}
+		int middle = (from + to) >>> 1;
+		Map.Entry<K, V> entry = entries.get(middle);
+		return new Node<>(entry.getKey(), entry.getValue(), Integer.MAX_VALUE - depth,
+				build(entries, from, middle, depth + 1), build(entries, middle + 1, to, depth + 1));
+	}
+
+	private static <K, V> List<Map.Entry<K, V>> dropDuplicates(Comparator<? super K> comparator,
+			List<? extends Map.Entry<K, V>> sortedEntries) {
+		List<Map.Entry<K, V>> distinct = new ArrayList<>(sortedEntries.size());
+		for (Map.Entry<K, V> entry : sortedEntries) {
+			if (distinct.isEmpty()
+					|| comparator.compare(distinct.get(distinct.size() - 1).getKey(), entry.getKey()) != 0) {
+				distinct.add(entry);
+			}
+		}
+		return distinct;
+	}
+
+	private static int sizeOf(Node<?, ?> node) {
+		return node == null ? 0 : node.size;
+	}
+
+	private static final class Node<K, V> implements Map.Entry<K, V> {
+
+		private final K key;
+		private final V value;
+		private final int priority;
+		private final int size;
+		private final Node<K, V> left;
+		private final Node<K, V> right;
+
+		private Node(K key, V value, int priority, Node<K, V> left, Node<K, V> right) {
+			this.key = key;
+			this.value = value;
+			this.priority = priority;
+			this.left = left;
+			this.right = right;
+			this.size = sizeOf(left) + 1 + sizeOf(right);
+		}
+
+		@Override
+		public K getKey() {
+			return key;
+		}
+
+		@Override
+		public V getValue() {
+			return value;
+		}
+
+		@Override
+		public V setValue(V value) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public String toString() {
+			return key + "=" + value;
+		}
+	}
+
+	/*
+	 * In-order walk with an explicit stack of the nodes still to visit, so each step is amortized O(1).
+	 */
+	private static final class EntryIterator<K, V> implements Iterator<Map.Entry<K, V>> {
+
+		private final Deque<Node<K, V>> pending = new ArrayDeque<>();
+
+		private EntryIterator(Node<K, V> root, K fromKey, Comparator<? super K> comparator) {
+			Node<K, V> node = root;
+			while (node != null) {
+				if (fromKey == null || comparator.compare(fromKey, node.key) <= 0) {
+					pending.push(node);
+					node = node.left;
+				} else {
+					node = node.right;
+				}
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return !pending.isEmpty();
+		}
+
+		@Override
+		public Map.Entry<K, V> next() {
+			if (pending.isEmpty()) {
+				throw new NoSuchElementException();
+			}
+			Node<K, V> next = pending.pop();
+			for (Node<K, V> node = next.right; node != null; node = node.left) {
+				pending.push(node);
+			}
+			return next;
+		}
+	}
+}
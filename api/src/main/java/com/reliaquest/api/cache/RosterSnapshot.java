@@ -0,0 +1,219 @@
+package com.reliaquest.api.cache;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import com.reliaquest.api.dtos.Employee;
+
+/**
+ * Immutable, versioned copy of the upstream employee roster. A new instance is published on every reload and on every
+ * create/delete the api performs, so a reader holding a snapshot always sees one consistent roster even while a
+ * refresh is running. Derived indexes ({@link SalaryIndex}, {@link NameTrigramIndex}) travel with the snapshot they
+ * were computed from.
+ *
+ * <p>Employees are kept in {@link PersistentSortedMap}s keyed by slot, a number that only grows and so orders the
+ * roster, and by id and case-folded name. A create or delete derives the next snapshot in O(log n) and shares
+ * everything else with this one.
+ */
+public final class RosterSnapshot {
+
+	private static final Comparator<SlotKey> SLOT_KEY_ORDER = Comparator.comparing(SlotKey::key)
+			.thenComparingLong(SlotKey::slot);
+
+	private final long version;
+	private final PersistentSortedMap<Long, Employee> roster;
+	private final PersistentSortedMap<SlotKey, Employee> byId;
+	private final PersistentSortedMap<SlotKey, Employee> byName;
+	private final long nextSlot;
+	private final SalaryIndex salaryIndex;
+	private final NameTrigramIndex nameIndex;
+	private final Instant loadedAt;
+
+	RosterSnapshot(long version, List<Employee> employees, Instant loadedAt) {
+		List<Map.Entry<Long, Employee>> slots = new ArrayList<>(employees.size());
+		List<Map.Entry<SlotKey, Employee>> ids = new ArrayList<>(employees.size());
+		List<Map.Entry<SlotKey, Employee>> names = new ArrayList<>(employees.size());
+		for (Employee employee : employees) {
+			long slot = slots.size();
+			slots.add(Map.entry(slot, employee));
+			if (employee.getId() != null) {
+				ids.add(Map.entry(new SlotKey(employee.getId(), slot), employee));
+			}
+			if (employee.getEmployeeName() != null) {
+				names.add(Map.entry(new SlotKey(fold(employee.getEmployeeName()), slot), employee));
+			}
+		}
+		ids.sort(Map.Entry.comparingByKey(SLOT_KEY_ORDER));
+		names.sort(Map.Entry.comparingByKey(SLOT_KEY_ORDER));
+
+		this.version = version;
+		this.roster = PersistentSortedMap.ofSorted(Comparator.naturalOrder(), slots);
+		this.byId = PersistentSortedMap.ofSorted(SLOT_KEY_ORDER, ids);
+		this.byName = PersistentSortedMap.ofSorted(SLOT_KEY_ORDER, names);
+		this.nextSlot = slots.size();
+		this.salaryIndex = SalaryIndex.of(employees);
+		this.nameIndex = NameTrigramIndex.of(employees);
+		this.loadedAt = loadedAt;
+	}
+
+	private RosterSnapshot(long version, PersistentSortedMap<Long, Employee> roster,
+			PersistentSortedMap<SlotKey, Employee> byId, PersistentSortedMap<SlotKey, Employee> byName, long nextSlot,
+			SalaryIndex salaryIndex, NameTrigramIndex nameIndex, Instant loadedAt) {
+		this.version = version;
+		this.roster = roster;
+		this.byId = byId;
+		this.byName = byName;
+		this.nextSlot = nextSlot;
+		this.salaryIndex = salaryIndex;
+		this.nameIndex = nameIndex;
+		this.loadedAt = loadedAt;
+	}
+
+	public long getVersion() {
+		return version;
+	}
+
+	/**
+	 * The roster in upstream order, as a read-only view.
+	 */
+	public List<Employee> getEmployees() {
+		return roster.values();
+	}
+
+	public SalaryIndex getSalaryIndex() {
+		return salaryIndex;
+	}
+
+	public NameTrigramIndex getNameIndex() {
+		return nameIndex;
+	}
+
+	public Instant getLoadedAt() {
+		return loadedAt;
+	}
+
+	boolean isOlderThan(Duration ttl, Instant now) {
+		return loadedAt.plus(ttl).isBefore(now);
+	}
+
+	/**
+	 * Derives the snapshot after the mock server appended {@code employee}. The load time is kept, so a local write
+	 * never postpones the next full refresh.
+	 */
+	RosterSnapshot withEmployeeAdded(long newVersion, Employee employee) {
+		long slot = nextSlot;
+		PersistentSortedMap<SlotKey, Employee> updatedById = employee.getId() == null ? byId
+				: byId.put(new SlotKey(employee.getId(), slot), employee);
+		PersistentSortedMap<SlotKey, Employee> updatedByName = employee.getEmployeeName() == null ? byName
+				: byName.put(new SlotKey(fold(employee.getEmployeeName()), slot), employee);
+		return new RosterSnapshot(newVersion, roster.put(slot, employee), updatedById, updatedByName, slot + 1,
+				salaryIndex.withAdded(employee), nameIndex.withAdded(employee), loadedAt);
+	}
+
+	/**
+	 * The employee the mock server would remove when deleting by {@code name}: the first one, in roster order, whose
+	 * name matches ignoring case.
+	 */
+	Employee firstNamed(String name) {
+		if (name == null) {
+			return null;
+		}
+		String folded = fold(name);
+		Map.Entry<SlotKey, Employee> first = byName.ceilingEntry(new SlotKey(folded, Long.MIN_VALUE));
+		return first != null && first.getKey().key().equals(folded) ? first.getValue() : null;
+	}
+
+	boolean containsId(String id) {
+		return findById(id) != null;
+	}
+
+	/**
+	 * The first employee, in roster order, with {@code id}, or null.
+	 */
+	Employee findById(String id) {
+		if (id == null) {
+			return null;
+		}
+		Map.Entry<SlotKey, Employee> first = byId.ceilingEntry(new SlotKey(id, Long.MIN_VALUE));
+		return first != null && first.getKey().key().equals(id) ? first.getValue() : null;
+	}
+
+	/**
+	 * Derives the snapshot without {@code employee}, which must be one of this snapshot's own instances. Returns
+	 * {@code this} when it is not.
+	 */
+	RosterSnapshot withEmployeeRemoved(long newVersion, Employee employee) {
+		Long slot = slotOf(employee);
+		if (slot == null) {
+			return this;
+		}
+		PersistentSortedMap<SlotKey, Employee> updatedById = employee.getId() == null ? byId
+				: byId.remove(new SlotKey(employee.getId(), slot));
+		PersistentSortedMap<SlotKey, Employee> updatedByName = employee.getEmployeeName() == null ? byName
+				: byName.remove(new SlotKey(fold(employee.getEmployeeName()), slot));
+		return new RosterSnapshot(newVersion, roster.remove(slot), updatedById, updatedByName, nextSlot,
+				salaryIndex.withRemoved(employee), nameIndex.withRemoved(employee), loadedAt);
+	}
+
+	/*
+	 * Ids and names may repeat, so the slot is the one holding this very instance.
+	 */
+	private Long slotOf(Employee employee) {
+		if (employee.getId() != null || employee.getEmployeeName() != null) {
+			String key = employee.getId() != null ? employee.getId() : fold(employee.getEmployeeName());
+			PersistentSortedMap<SlotKey, Employee> index = employee.getId() != null ? byId : byName;
+			for (Map.Entry<SlotKey, Employee> entry : index.tailEntries(new SlotKey(key, Long.MIN_VALUE))) {
+				if (!entry.getKey().key().equals(key)) {
+					break;
+				}
+				if (entry.getValue() == employee) {
+					return entry.getKey().slot();
+				}
+			}
+			return null;
+		}
+		for (Map.Entry<Long, Employee> entry : roster.tailEntries(Long.MIN_VALUE)) {
+			if (entry.getValue() == employee) {
+				return entry.getKey();
+			}
+		}
+		return null;
+	}
+
+	/*
+	 * Two names fold to the same key exactly when String#equalsIgnoreCase considers them equal, which is how the mock
+	 * server matches names on delete.
+	 */
+	private static String fold(String name) {
+		StringBuilder folded = new StringBuilder(name.length());
+		name.codePoints().map(codePoint -> Character.toLowerCase(Character.toUpperCase(codePoint)))
+				.forEach(folded::appendCodePoint);
+		return folded.toString();
+	}
+
+	/**
+	 * An id or folded name with the slot holding it, so repeated keys stay apart and sort in roster order.
+	 */
+	private static final class SlotKey {
+
+		private final String key;
+		private final long slot;
+
+		private SlotKey(String key, long slot) {
+			this.key = key;
+			this.slot = slot;
+		}
+
+		private String key() {
+			return key;
+		}
+
+		private long slot() {
+			return slot;
+		}
+	}
+}
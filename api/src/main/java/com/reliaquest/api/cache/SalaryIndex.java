@@ -0,0 +1,91 @@
+package com.reliaquest.api.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+
+import com.reliaquest.api.dtos.Employee;
+
+/**
+ * Ordered multiset of the roster's salaries (each entry is the employee earning it), kept with every
+ * {@link RosterSnapshot}. The highest salary is read in O(log n) and the top K in O(K + log n); creates and deletes
+ * derive a new index from the previous one in O(log n), sharing everything but the changed path with it.
+ *
+ * <p>Instances are never mutated after construction. Ties are ranked by name and then id (both ascending), so results
+ * do not depend on upstream ordering.
+ */
+public final class SalaryIndex {
+
+	public static final Comparator<Employee> BY_SALARY_DESCENDING = Comparator
+			.comparingInt((Employee employee) -> employee.getEmployeeSalary()).reversed()
+			.thenComparing(Employee::getEmployeeName, Comparator.nullsLast(Comparator.naturalOrder()))
+			.thenComparing(Employee::getId, Comparator.nullsLast(Comparator.naturalOrder()));
+
+	// a sorted set: each employee maps to itself
+	private final PersistentSortedMap<Employee, Employee> ranked;
+
+	private SalaryIndex(PersistentSortedMap<Employee, Employee> ranked) {
+		this.ranked = ranked;
+	}
+
+	/**
+	 * Builds the index for a freshly loaded roster. Employees without a salary are not ranked.
+	 */
+	static SalaryIndex of(Collection<Employee> employees) {
+		List<Employee> sorted = new ArrayList<>(employees.size());
+		for (Employee employee : employees) {
+			if (employee.getEmployeeSalary() != null) {
+				sorted.add(employee);
+			}
+		}
+		sorted.sort(BY_SALARY_DESCENDING);
+		List<Map.Entry<Employee, Employee>> entries = new ArrayList<>(sorted.size());
+		for (Employee employee : sorted) {
+			entries.add(Map.entry(employee, employee));
+		}
+		return new SalaryIndex(PersistentSortedMap.ofSorted(BY_SALARY_DESCENDING, entries));
+	}
+
+	SalaryIndex withAdded(Employee employee) {
+		if (employee.getEmployeeSalary() == null || ranked.containsKey(employee)) {
+			return this;
+		}
+		return new SalaryIndex(ranked.put(employee, employee));
+	}
+
+	SalaryIndex withRemoved(Employee employee) {
+		if (employee.getEmployeeSalary() == null) {
+			return this;
+		}
+		PersistentSortedMap<Employee, Employee> updated = ranked.remove(employee);
+		return updated == ranked ? this : new SalaryIndex(updated);
+	}
+
+	public OptionalInt highestSalary() {
+		return ranked.isEmpty() ? OptionalInt.empty()
+				: OptionalInt.of(ranked.firstEntry().getKey().getEmployeeSalary());
+	}
+
+	/**
+	 * The {@code k} highest earners, best first.
+	 */
+	public List<Employee> top(int k) {
+		if (k <= 0) {
+			return List.of();
+		}
+		List<Employee> top = new ArrayList<>(Math.min(k, ranked.size()));
+		Iterator<Employee> iterator = ranked.values().iterator();
+		while (top.size() < k && iterator.hasNext()) {
+			top.add(iterator.next());
+		}
+		return top;
+	}
+
+	public int size() {
+		return ranked.size();
+	}
+}
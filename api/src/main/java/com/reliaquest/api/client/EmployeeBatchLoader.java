@@ -0,0 +1,121 @@
+package com.reliaquest.api.client;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.reliaquest.api.constants.ApiConstants;
+import com.reliaquest.api.dtos.Employee;
+import com.reliaquest.api.dtos.EmployeeListResponseDTO;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Micro-batches single-employee lookups: ids requested within a short window are collected and fetched with one
+ * {@code POST /employee/batch-get}, then each caller receives its own employee (or nothing, if upstream does not know
+ * the id). A batch is sent early once it reaches the maximum size, and the same id requested twice in one window is
+ * fetched once.
+ */
+@Component
+public class EmployeeBatchLoader {
+
+	private final Logger logger = LoggerFactory.getLogger(EmployeeBatchLoader.class);
+
+	private final WebClient webClient;
+
+	private final Duration window;
+
+	private final int maxBatchSize;
+
+	// guarded by this
+	private Map<String, Sinks.One<Employee>> pending = new LinkedHashMap<>();
+
+	public EmployeeBatchLoader(WebClient webClient, @Value("${employee.batch-get.window:5ms}") Duration window,
+			@Value("${employee.batch-get.max-batch-size:100}") int maxBatchSize) {
+		this.webClient = webClient;
+		this.window = window;
+		this.maxBatchSize = maxBatchSize;
+	}
+
+	public Mono<Employee> load(String id) {
+		return Mono.defer(() -> {
+			String key;
+			try {
+				key = UUID.fromString(id).toString();
+			} catch (IllegalArgumentException e) {
+				// upstream only has UUIDs; a malformed id must not fail the batch it would have joined
+				return Mono.empty();
+			}
+
+			Sinks.One<Employee> sink;
+			Map<String, Sinks.One<Employee>> batch = null;
+			Map<String, Sinks.One<Employee>> opened = null;
+			synchronized (this) {
+				if (pending.isEmpty()) {
+					opened = pending;
+				}
+				sink = pending.computeIfAbsent(key, k -> Sinks.one());
+				if (pending.size() >= maxBatchSize) {
+					batch = pending;
+					pending = new LinkedHashMap<>();
+				}
+			}
+			if (batch != null) {
+				dispatch(batch);
+			} else if (opened != null) {
+				Map<String, Sinks.One<Employee>> scheduled = opened;
+				Mono.delay(window).subscribe(tick -> flush(scheduled));
+			}
+			return sink.asMono();
+		});
+	}
+
+	private void flush(Map<String, Sinks.One<Employee>> scheduled) {
+		synchronized (this) {
+			// already sent because it filled up
+			if (pending != scheduled) {
+				return;
+			}
+			pending = new LinkedHashMap<>();
+		}
+		dispatch(scheduled);
+	}
+
+	private void dispatch(Map<String, Sinks.One<Employee>> batch) {
+		logger.debug("EmployeeBatchLoader|dispatch|Fetching {} employees", batch.size());
+		webClient.post().uri(ApiConstants.REST_API_URI_BATCH_GET_EMPLOYEES)
+				.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+				.bodyValue(new ArrayList<>(batch.keySet()))
+				.retrieve()
+				.bodyToMono(EmployeeListResponseDTO.class)
+				.subscribe(response -> {
+					Map<String, Employee> found = new HashMap<>();
+					if (response.getData() != null) {
+						response.getData().forEach(employee -> found.put(employee.getId(), employee));
+					}
+					batch.forEach((id, sink) -> {
+						Employee employee = found.get(id);
+						if (employee != null) {
+							sink.tryEmitValue(employee);
+						} else {
+							sink.tryEmitEmpty();
+						}
+					});
+				}, error -> {
+					logger.error("EmployeeBatchLoader|dispatch|Error:{}", error.getMessage());
+					batch.values().forEach(sink -> sink.tryEmitError(error));
+				}, () -> batch.values().forEach(Sinks.One::tryEmitEmpty));
+	}
+}
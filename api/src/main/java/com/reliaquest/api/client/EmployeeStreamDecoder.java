@@ -0,0 +1,133 @@
+package com.reliaquest.api.client;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.reliaquest.api.dtos.Employee;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Decodes the upstream list envelope ({@code {"data": [...], "status": "..."}}) incrementally with Jackson's
+ * non-blocking parser, emitting each element of {@code data} as soon as its closing brace arrives. Only one employee
+ * is buffered at a time, so the full {@link com.reliaquest.api.dtos.EmployeeListResponseDTO} is never materialized.
+ */
+@Component
+public class EmployeeStreamDecoder {
+
+	private static final String DATA_FIELD = "data";
+
+	private final ObjectMapper objectMapper;
+
+	public EmployeeStreamDecoder(ObjectMapper objectMapper) {
+		this.objectMapper = objectMapper;
+	}
+
+	public Flux<Employee> decode(Flux<DataBuffer> body) {
+		return Flux.defer(() -> {
+			EnvelopeParser parser = new EnvelopeParser();
+			return body.concatMapIterable(parser::feed).concatWith(Flux.defer(() -> Flux.fromIterable(parser.end())))
+					.doFinally(signal -> parser.close());
+		});
+	}
+
+	/**
+	 * Parser state for one response body. Tracks the nesting depth so that only objects directly inside the top-level
+	 * {@code data} array are decoded; anything else in the envelope is skipped token by token.
+	 */
+	private final class EnvelopeParser {
+
+		private final JsonParser parser;
+
+		private final ByteArrayFeeder feeder;
+
+		private int depth;
+
+		private boolean inData;
+
+		private TokenBuffer element;
+
+		private int elementDepth;
+
+		EnvelopeParser() {
+			try {
+				this.parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+		}
+
+		List<Employee> feed(DataBuffer buffer) {
+			try {
+				byte[] bytes = new byte[buffer.readableByteCount()];
+				buffer.read(bytes);
+				feeder.feedInput(bytes, 0, bytes.length);
+				return drain();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			} finally {
+				DataBufferUtils.release(buffer);
+			}
+		}
+
+		List<Employee> end() {
+			try {
+				feeder.endOfInput();
+				return drain();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+
+		void close() {
+			try {
+				parser.close();
+			} catch (IOException ignored) {
+				// nothing left to release
+			}
+		}
+
+		private List<Employee> drain() throws IOException {
+			List<Employee> decoded = new ArrayList<>();
+			JsonToken token;
+			while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+				if (element != null) {
+					element.copyCurrentEvent(parser);
+					if (token.isStructStart()) {
+						elementDepth++;
+					} else if (token.isStructEnd() && --elementDepth == 0) {
+						decoded.add(objectMapper.readValue(element.asParser(objectMapper), Employee.class));
+						element = null;
+					}
+				} else if (inData && token == JsonToken.START_OBJECT) {
+					element = new TokenBuffer(parser, null);
+					element.copyCurrentEvent(parser);
+					elementDepth = 1;
+				} else if (token.isStructStart()) {
+					depth++;
+					if (token == JsonToken.START_ARRAY && depth == 2 && DATA_FIELD.equals(parser.currentName())) {
+						inData = true;
+					}
+				} else if (token.isStructEnd()) {
+					if (inData && depth == 2) {
+						inData = false;
+					}
+					depth--;
+				}
+			}
+			return decoded;
+		}
+	}
+}
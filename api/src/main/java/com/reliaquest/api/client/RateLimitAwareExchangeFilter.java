@@ -0,0 +1,197 @@
+package com.reliaquest.api.client;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.server.ResponseStatusException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * Paces outbound calls to the mock server so they stay inside its request budget instead of tripping long lockouts.
+ *
+ * <p>Every request takes a permit from a token bucket before it is sent; when the bucket is empty the request is
+ * queued (delayed) until a permit frees up. The bucket starts from the configured limit/window and is re-sized from
+ * what the server actually does: the number of successful calls before a 429 becomes the learned limit, and the time
+ * until the first success after a 429 becomes the learned window. A {@code Retry-After} header, when present, wins
+ * over the learned window. Throttled requests are retried with jittered exponential backoff; a request that would
+ * have to wait longer than {@code maxWait} fails fast with 429, unless it carries {@link #WAIT_FOR_PERMIT_ATTRIBUTE}.
+ *
+ * <p>Reactor's {@link Retry} is used rather than spring-retry so the whole path stays non-blocking.
+ */
+public class RateLimitAwareExchangeFilter implements ExchangeFilterFunction {
+
+	/**
+	 * Request attribute; when {@code true} the request waits for its permit however long the queue is. Meant for batch
+	 * work whose caller bounds its own concurrency and would rather be paced than refused.
+	 */
+	public static final String WAIT_FOR_PERMIT_ATTRIBUTE = RateLimitAwareExchangeFilter.class.getName()
+			+ ".waitForPermit";
+
+	private final Logger logger = LoggerFactory.getLogger(RateLimitAwareExchangeFilter.class);
+
+	private final Duration maxWait;
+
+	private final int maxRetries;
+
+	private final Duration minBackoff;
+
+	private final LongSupplier nanoClock;
+
+	private final Counter throttledResponses;
+
+	// learned budget and bucket state, guarded by "this"
+	private int learnedLimit;
+	private long learnedWindowNanos;
+	private double tokens;
+	private long lastRefillNanos;
+	private long lockedUntilNanos;
+	private long lastSuccessNanos;
+	private boolean lockedOut;
+	private long lockoutStartedNanos;
+	private int successesSinceUnlock;
+
+	public RateLimitAwareExchangeFilter(int initialLimit, Duration initialWindow, Duration maxWait, int maxRetries,
+			Duration minBackoff, MeterRegistry meterRegistry) {
+		this(initialLimit, initialWindow, maxWait, maxRetries, minBackoff, meterRegistry, System::nanoTime);
+	}
+
+	RateLimitAwareExchangeFilter(int initialLimit, Duration initialWindow, Duration maxWait, int maxRetries,
+			Duration minBackoff, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+		this.learnedLimit = initialLimit;
+		this.learnedWindowNanos = initialWindow.toNanos();
+		this.maxWait = maxWait;
+		this.maxRetries = maxRetries;
+		this.minBackoff = minBackoff;
+		this.nanoClock = nanoClock;
+		this.tokens = initialLimit;
+		this.lastRefillNanos = nanoClock.getAsLong();
+		this.lastSuccessNanos = lastRefillNanos;
+		this.throttledResponses = Counter.builder("employee.upstream.rate.limit.throttled")
+				.description("429 responses received from upstream").register(meterRegistry);
+		Gauge.builder("employee.upstream.rate.limit.learned.limit", this, RateLimitAwareExchangeFilter::getLearnedLimit)
+				.description("Requests per window the upstream is believed to allow").register(meterRegistry);
+		Gauge.builder("employee.upstream.rate.limit.learned.window", this,
+				filter -> filter.getLearnedWindow().toMillis()).baseUnit("milliseconds")
+				.description("Upstream lockout window as last observed").register(meterRegistry);
+	}
+
+	@Override
+	public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+		boolean waitForPermit = Boolean.TRUE.equals(request.attribute(WAIT_FOR_PERMIT_ATTRIBUTE).orElse(null));
+		return Mono.defer(() -> Mono.delay(reservePermit(waitForPermit)).then(Mono.defer(() -> next.exchange(request))))
+				.flatMap(response -> {
+					if (response.statusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+						onThrottled(retryAfter(response));
+						return response.releaseBody().then(Mono.error(new UpstreamThrottledException()));
+					}
+					onSuccess();
+					return Mono.just(response);
+				})
+				.retryWhen(Retry.backoff(maxRetries, minBackoff).jitter(0.5)
+						.filter(UpstreamThrottledException.class::isInstance)
+						.doBeforeRetry(signal -> logger.debug(
+								"RateLimitAwareExchangeFilter|filter|Retry #{} for {} {}", signal.totalRetries() + 1,
+								request.method(), request.url()))
+						.onRetryExhaustedThrow((spec, signal) -> rateLimited()));
+	}
+
+	public synchronized int getLearnedLimit() {
+		return learnedLimit;
+	}
+
+	public synchronized Duration getLearnedWindow() {
+		return Duration.ofNanos(learnedWindowNanos);
+	}
+
+	/**
+	 * Takes a permit and returns how long the caller must wait before using it. Tokens may go negative: that is the
+	 * queue of callers already waiting for a permit.
+	 */
+	private synchronized Duration reservePermit(boolean waitForPermit) {
+		long now = nanoClock.getAsLong();
+		refill(now);
+		double nanosPerToken = (double) learnedWindowNanos / learnedLimit;
+		long waitNanos = tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) * nanosPerToken);
+		waitNanos = Math.max(waitNanos, lockedUntilNanos - now);
+		if (!waitForPermit && waitNanos > maxWait.toNanos()) {
+			logger.warn("RateLimitAwareExchangeFilter|reservePermit|Upstream budget exhausted, wait of {} ms exceeds {}",
+					waitNanos / 1_000_000, maxWait);
+			throw rateLimited();
+		}
+		tokens -= 1;
+		return Duration.ofNanos(waitNanos);
+	}
+
+	private void refill(long now) {
+		double refilled = (now - lastRefillNanos) * learnedLimit / (double) learnedWindowNanos;
+		tokens = Math.min(learnedLimit, tokens + refilled);
+		lastRefillNanos = now;
+	}
+
+	private synchronized void onSuccess() {
+		long now = nanoClock.getAsLong();
+		if (lockedOut) {
+			// first success after a lockout: the server's window is (at most) the time since the last good request
+			learnedWindowNanos = Math.max(now - lockoutStartedNanos, 1);
+			lockedOut = false;
+			successesSinceUnlock = 0;
+			logger.info("RateLimitAwareExchangeFilter|onSuccess|Learned upstream window of {} ms",
+					learnedWindowNanos / 1_000_000);
+		}
+		successesSinceUnlock++;
+		lastSuccessNanos = now;
+	}
+
+	private synchronized void onThrottled(Duration retryAfter) {
+		throttledResponses.increment();
+		long now = nanoClock.getAsLong();
+		if (!lockedOut) {
+			lockedOut = true;
+			lockoutStartedNanos = lastSuccessNanos;
+			if (successesSinceUnlock > 0) {
+				learnedLimit = successesSinceUnlock;
+				logger.info("RateLimitAwareExchangeFilter|onThrottled|Learned upstream limit of {} requests",
+						learnedLimit);
+			}
+		}
+		long lockNanos = retryAfter != null ? retryAfter.toNanos() : learnedWindowNanos - (now - lockoutStartedNanos);
+		lockedUntilNanos = Math.max(lockedUntilNanos, now + Math.max(lockNanos, 0));
+		tokens = Math.min(tokens, 0);
+		lastRefillNanos = now;
+	}
+
+	private static Duration retryAfter(ClientResponse response) {
+		String header = response.headers().asHttpHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+		if (header == null) {
+			return null;
+		}
+		try {
+			return Duration.ofSeconds(Long.parseLong(header.trim()));
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	private static ResponseStatusException rateLimited() {
+		return new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "Upstream rate limit exceeded, try again later");
+	}
+
+	private static class UpstreamThrottledException extends RuntimeException {
+		UpstreamThrottledException() {
+			super("Upstream responded with 429", null, false, false);
+		}
+	}
+}
@@ -0,0 +1,82 @@
+package com.reliaquest.api.client;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * Single-flight coalescing of upstream calls: while a call for a given key is in flight, every other caller asking for
+ * the same key subscribes to that call instead of issuing its own request. The entry is dropped as soon as the call
+ * terminates, so results are never reused after the fact - caching is the job of
+ * {@link com.reliaquest.api.cache.EmployeeRosterCache}.
+ *
+ * <p>Exposes {@code employee.upstream.coalescer.calls} (tagged {@code outcome=executed|coalesced}) and
+ * {@code employee.upstream.coalescer.in.flight}.
+ */
+@Component
+public class UpstreamRequestCoalescer {
+
+	private final Logger logger = LoggerFactory.getLogger(UpstreamRequestCoalescer.class);
+
+	private final ConcurrentMap<String, Mono<?>> inFlight = new ConcurrentHashMap<>();
+
+	private final Counter executedCalls;
+
+	private final Counter coalescedCalls;
+
+	public UpstreamRequestCoalescer(MeterRegistry meterRegistry) {
+		this.executedCalls = Counter.builder("employee.upstream.coalescer.calls").tag("outcome", "executed")
+				.description("Upstream calls actually sent").register(meterRegistry);
+		this.coalescedCalls = Counter.builder("employee.upstream.coalescer.calls").tag("outcome", "coalesced")
+				.description("Upstream calls served by joining an in-flight call").register(meterRegistry);
+		Gauge.builder("employee.upstream.coalescer.in.flight", inFlight, ConcurrentMap::size)
+				.description("Distinct upstream calls currently in flight").register(meterRegistry);
+	}
+
+	/**
+	 * Runs {@code call} unless a call for {@code key} is already in flight, in which case the caller shares its result.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> Mono<T> execute(String key, Supplier<Mono<T>> call) {
+		return Mono.defer(() -> {
+			AtomicBoolean leader = new AtomicBoolean();
+			Mono<T> flight = (Mono<T>) inFlight.computeIfAbsent(key, k -> {
+				leader.set(true);
+				return newFlight(k, call);
+			});
+			if (leader.get()) {
+				executedCalls.increment();
+			} else {
+				coalescedCalls.increment();
+				logger.debug("UpstreamRequestCoalescer|execute|Joined in-flight call for {}", key);
+			}
+			return flight;
+		});
+	}
+
+	public long getExecutedCount() {
+		return (long) executedCalls.count();
+	}
+
+	public long getCoalescedCount() {
+		return (long) coalescedCalls.count();
+	}
+
+	private <T> Mono<T> newFlight(String key, Supplier<Mono<T>> call) {
+		AtomicReference<Mono<T>> self = new AtomicReference<>();
+		Mono<T> flight = Mono.defer(call).doFinally(signal -> inFlight.remove(key, self.get())).share();
+		self.set(flight);
+		return flight;
+	}
+}
@@ -0,0 +1,22 @@
+package com.reliaquest.api.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Reactive mode ({@code spring.profiles.active=reactive}). Tomcat is on the classpath because of
+ * {@code spring-boot-starter-web}, and Boot would prefer it for a reactive application too; declaring the factory here
+ * puts the api on Reactor Netty instead.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveServerConfig {
+
+	@Bean
+	NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+		return new NettyReactiveWebServerFactory();
+	}
+
+}
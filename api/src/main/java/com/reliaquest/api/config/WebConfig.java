@@ -1,24 +1,113 @@
 package com.reliaquest.api.config;
 
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import com.reliaquest.api.client.RateLimitAwareExchangeFilter;
 import com.reliaquest.api.constants.ApiConstants;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
 @Configuration
 public class WebConfig {
 
+	private static final String EMPLOYEE_PATH = "/api/v1/employee/";
+
+	private static final String EMPLOYEE_BY_ID_URI_TAG = EMPLOYEE_PATH + "{id}";
+
+	// sub-resources of /employee/ that are not ids and keep their own tag
+	private static final Set<String> EMPLOYEE_SUB_RESOURCE_URIS = Set.of(EMPLOYEE_PATH + "batch-get",
+			EMPLOYEE_PATH + "bulk");
+
+	private static final String READ_TIMEOUT_HANDLER = "upstreamReadTimeout";
+
+	@Bean
+	RateLimitAwareExchangeFilter rateLimitAwareExchangeFilter(
+			@Value("${employee.upstream.rate-limit.initial-limit:5}") int initialLimit,
+			@Value("${employee.upstream.rate-limit.initial-window:30s}") Duration initialWindow,
+			@Value("${employee.upstream.rate-limit.max-wait:10s}") Duration maxWait,
+			@Value("${employee.upstream.rate-limit.max-retries:3}") int maxRetries,
+			@Value("${employee.upstream.rate-limit.min-backoff:500ms}") Duration minBackoff,
+			MeterRegistry meterRegistry) {
+		return new RateLimitAwareExchangeFilter(initialLimit, initialWindow, maxWait, maxRetries, minBackoff,
+				meterRegistry);
+	}
+
+	/**
+	 * Dedicated pool for the mock server so upstream concurrency is sized deliberately rather than inherited from the
+	 * shared Reactor Netty defaults. Pool gauges are published as {@code reactor.netty.connection.provider.*}.
+	 */
+	@Bean(destroyMethod = "dispose")
+	ConnectionProvider upstreamConnectionProvider(
+			@Value("${employee.upstream.http.max-connections:50}") int maxConnections,
+			@Value("${employee.upstream.http.pending-acquire-max-count:500}") int pendingAcquireMaxCount,
+			@Value("${employee.upstream.http.pending-acquire-timeout:5s}") Duration pendingAcquireTimeout,
+			@Value("${employee.upstream.http.max-idle-time:30s}") Duration maxIdleTime,
+			@Value("${employee.upstream.http.max-life-time:5m}") Duration maxLifeTime,
+			@Value("${employee.upstream.http.evict-in-background:30s}") Duration evictInBackground) {
+		return ConnectionProvider.builder("employee-upstream")
+				.maxConnections(maxConnections)
+				.pendingAcquireMaxCount(pendingAcquireMaxCount)
+				.pendingAcquireTimeout(pendingAcquireTimeout)
+				.maxIdleTime(maxIdleTime)
+				.maxLifeTime(maxLifeTime)
+				.evictInBackground(evictInBackground)
+				.metrics(true)
+				.build();
+	}
+
 	@Bean
-	WebClient webClient() {
+	WebClient webClient(RateLimitAwareExchangeFilter rateLimitAwareExchangeFilter,
+			ConnectionProvider upstreamConnectionProvider,
+			@Value("${employee.upstream.http.protocols:HTTP11}") HttpProtocol[] protocols,
+			@Value("${employee.upstream.http.connect-timeout:2s}") Duration connectTimeout,
+			@Value("${employee.upstream.http.read-timeout:5s}") Duration readTimeout,
+			@Value("${employee.upstream.http.response-timeout:5s}") Duration responseTimeout) {
+
+		HttpClient httpClient = HttpClient.create(upstreamConnectionProvider)
+				.protocol(protocols)
+				.keepAlive(true)
+				.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+				.responseTimeout(responseTimeout)
+				// the read timeout belongs to the exchange, not the pooled connection: it is added for each request and
+				// removed once the response body has been read, so it neither closes idle pooled connections nor goes
+				// missing on reused ones. An exchange that fails on I/O closes its connection, handler and all.
+				.doOnRequest((request, connection) -> connection.addHandlerLast(READ_TIMEOUT_HANDLER,
+						new ReadTimeoutHandler(readTimeout.toMillis(), TimeUnit.MILLISECONDS)))
+				.doAfterResponseSuccess((response, connection) -> connection.removeHandler(READ_TIMEOUT_HANDLER))
+				.metrics(true, WebConfig::upstreamUriTag);
 
 		WebClient webClient = WebClient.builder().baseUrl(ApiConstants.REST_API_BASE_URL)
+				.clientConnector(new ReactorClientHttpConnector(httpClient))
 				.defaultCookie("cookie-name", "cookie-value")
-				.defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE).build();
+				.defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+				.filter(rateLimitAwareExchangeFilter).build();
 
 		return webClient;
 	}
 
+	/**
+	 * Collapses {@code /employee/{id}} so per-id URIs do not explode the metric tag cardinality.
+	 */
+	static String upstreamUriTag(String uri) {
+		if (uri.startsWith(EMPLOYEE_PATH) && !EMPLOYEE_SUB_RESOURCE_URIS.contains(uri)) {
+			return EMPLOYEE_BY_ID_URI_TAG;
+		}
+		return uri;
+	}
+
 }
@@ -6,10 +6,13 @@ public class ApiConstants {
 	public static final String REST_API_URI_EMPLOYEE_ID ="/{id}"; 
 	public static final String REST_API_URI_GET_HIGHEST_SALARY="/highestSalary";
 	public static final String REST_API_URI_GET_TOP_TEN_EMPLOYEE_NAMES="/topTenHighestEarningEmployeeNames";
+	public static final String REST_API_URI_GET_TOP_K_EMPLOYEE_NAMES="/topHighestEarningEmployeeNames/{k}";
+	public static final String REST_API_URI_CREATE_EMPLOYEES_BULK="/bulk";
 
 	
 	public static final String REST_API_URI_GET_ALL_EMPLOYEES="/employee";
 	public static final String REST_API_URI_GET_EMPLOYEE_BY_ID="/employee/";
+	public static final String REST_API_URI_BATCH_GET_EMPLOYEES="/employee/batch-get";
 	public static final String REST_API_URI_CREATE_EMPLOYEE="/employee";
 	public static final String REST_API_URI_DELETE_EMPLOYEE= "/employee";
 	
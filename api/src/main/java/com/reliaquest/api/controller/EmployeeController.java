@@ -9,21 +9,39 @@ import com.reliaquest.api.controller.IEmployeeController;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
 
+import com.reliaquest.api.constants.ApiConstants;
+import com.reliaquest.api.dtos.BulkCreateResultDTO;
 import com.reliaquest.api.dtos.Employee;
 import com.reliaquest.api.service.impl.EmployeeServiceImpl;
 import com.reliaquest.api.controller.IEmployeeController;
 
+import reactor.core.publisher.Flux;
+
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class EmployeeController implements IEmployeeController {
 
 	@Autowired
 	private EmployeeServiceImpl employeeService;
 
+	@Value("${employee.top-earners.max-k:1000}")
+	private int maxTopK;
+
+	@Value("${employee.bulk-create.max-items:5000}")
+	private int maxBulkCreateItems;
+
 	private final Logger logger = LoggerFactory.getLogger(EmployeeController.class);
 
 	@Override
@@ -41,6 +59,17 @@ public class EmployeeController implements IEmployeeController {
 		return new ResponseEntity<List<Employee>>(employeeList, HttpStatus.OK);
 	}
 
+	/**
+	 * Streaming variant of {@link #getAllEmployees()}, selected with {@code Accept: application/x-ndjson}. Employees
+	 * are written one per line as they are decoded from upstream instead of being buffered into a list first.
+	 */
+	@GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public Flux<Employee> streamAllEmployees() {
+		logger.debug("EmployeeController|streamAllEmployees|Entry");
+		return employeeService.findAllEmployees()
+				.doOnError(e -> logger.error("EmployeeController|streamAllEmployees|Error:{}", e.getMessage()));
+	}
+
 	@Override
 	public ResponseEntity<List<Employee>> getEmployeesByNameSearch(String searchString) {
 
@@ -116,6 +145,26 @@ public class EmployeeController implements IEmployeeController {
 		return new ResponseEntity<List<String>>(topTenHighestEarningEmpNamesList, HttpStatus.OK);
 	}
 
+	//http://localhost:8111/topHighestEarningEmployeeNames/25
+	@GetMapping(ApiConstants.REST_API_URI_GET_TOP_K_EMPLOYEE_NAMES)
+	public ResponseEntity<List<String>> getTopHighestEarningEmployeeNames(@PathVariable int k) {
+		logger.debug("EmployeeController|getTopHighestEarningEmployeeNames|Entry");
+
+		EmployeeInputValidator.validateTopK(k, maxTopK);
+		List<String> topEarnerNames = new ArrayList<>();
+		try {
+			topEarnerNames = employeeService.getTopHighestEarningEmployeeNames(k);
+
+		} catch (Exception e) {
+			logger.error("EmployeeController|getTopHighestEarningEmployeeNames|Error:{}", e.getMessage());
+			throw e;
+		}
+
+		logger.debug("EmployeeController|getTopHighestEarningEmployeeNames|Exit");
+
+		return new ResponseEntity<List<String>>(topEarnerNames, HttpStatus.OK);
+	}
+
 //	{
 //		"name": "Yash",
 //			"salary": 185000,
@@ -126,28 +175,7 @@ public class EmployeeController implements IEmployeeController {
 	public ResponseEntity<Object> createEmployee(Map employeeInput) {
 		logger.debug("EmployeeController|createEmployee|Entry");
 
-		if (employeeInput == null || employeeInput.isEmpty() ) {
-			logger.error("EmployeeController|createEmployee|Invalid input");
-			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid employee input");
-		}
-
-		String name = (String) employeeInput.get("name");
-		Integer salary = (Integer) employeeInput.get("salary");
-		Integer age = (Integer) employeeInput.get("age");
-		String title = (String) employeeInput.get("title");
-
-		if (name == null || name.isBlank()) {
-			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Name is mandatory");
-		}
-		if (salary == null || salary < 1) {
-			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Salary must be greater than 0");
-		}
-		if (age == null || age < 16 || age > 75) {
-			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Age must be between 16 and 75");
-		}
-		if (title == null || title.isBlank()) {
-			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Title is mandatory");
-		}
+		EmployeeInputValidator.validate(employeeInput);
 
 		Object response = null;
 		try {
@@ -161,6 +189,18 @@ public class EmployeeController implements IEmployeeController {
 		return new ResponseEntity<>(response, HttpStatus.OK);
 	}
 
+	/**
+	 * Creates a batch of employees. Every item is validated before anything is sent upstream; results are streamed one
+	 * per line as each create completes.
+	 */
+	@PostMapping(value = ApiConstants.REST_API_URI_CREATE_EMPLOYEES_BULK, produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public Flux<BulkCreateResultDTO> createEmployees(@RequestBody List<Map<String, Object>> employeeInputs) {
+		logger.debug("EmployeeController|createEmployees|Entry");
+		EmployeeInputValidator.validateBulk(employeeInputs, maxBulkCreateItems);
+		return employeeService.createAll(employeeInputs)
+				.doOnError(e -> logger.error("EmployeeController|createEmployees|Error:{}", e.getMessage()));
+	}
+
 	@Override
 	public ResponseEntity<Object> deleteEmployeeById(String id) {
 		logger.debug("EmployeeController|deleteEmployeeById|Entry");
@@ -0,0 +1,74 @@
+package com.reliaquest.api.controller;
+
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Request input rules shared by the servlet and reactive controllers so both reject the same payloads with the same
+ * messages.
+ */
+final class EmployeeInputValidator {
+
+	private static final Logger logger = LoggerFactory.getLogger(EmployeeInputValidator.class);
+
+	private EmployeeInputValidator() {
+	}
+
+	static void validate(Map<String, Object> employeeInput) {
+		if (employeeInput == null || employeeInput.isEmpty() ) {
+			logger.error("EmployeeInputValidator|validate|Invalid input");
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid employee input");
+		}
+
+		String name = (String) employeeInput.get("name");
+		Integer salary = (Integer) employeeInput.get("salary");
+		Integer age = (Integer) employeeInput.get("age");
+		String title = (String) employeeInput.get("title");
+
+		if (name == null || name.isBlank()) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Name is mandatory");
+		}
+		if (salary == null || salary < 1) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Salary must be greater than 0");
+		}
+		if (age == null || age < 16 || age > 75) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Age must be between 16 and 75");
+		}
+		if (title == null || title.isBlank()) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Title is mandatory");
+		}
+	}
+
+	/**
+	 * Applies {@link #validate(Map)} to every item up front, so a batch is either rejected as a whole or submitted as a
+	 * whole. The message names the first offending item.
+	 */
+	static void validateBulk(List<Map<String, Object>> employeeInputs, int maxItems) {
+		if (employeeInputs == null || employeeInputs.isEmpty()) {
+			logger.error("EmployeeInputValidator|validateBulk|Invalid input");
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid employee input");
+		}
+		if (employeeInputs.size() > maxItems) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At most " + maxItems + " employees per request");
+		}
+		for (int i = 0; i < employeeInputs.size(); i++) {
+			try {
+				validate(employeeInputs.get(i));
+			} catch (ResponseStatusException | ClassCastException e) {
+				String reason = e instanceof ResponseStatusException rse ? rse.getReason() : "Invalid employee input";
+				throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Item " + i + ": " + reason);
+			}
+		}
+	}
+
+	static void validateTopK(int k, int maxTopK) {
+		if (k < 1 || k > maxTopK) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "k must be between 1 and " + maxTopK);
+		}
+	}
+}
@@ -0,0 +1,128 @@
+package com.reliaquest.api.controller;
+
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.reliaquest.api.constants.ApiConstants;
+import com.reliaquest.api.dtos.BulkCreateResultDTO;
+import com.reliaquest.api.dtos.Employee;
+import com.reliaquest.api.service.ReactiveEmployeeService;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Same routes and payloads as {@link EmployeeController}, served without blocking when the application runs as a
+ * reactive web application ({@code reactive} profile). Only one of the two controllers is ever registered.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveEmployeeController {
+
+	@Autowired
+	private ReactiveEmployeeService employeeService;
+
+	@Value("${employee.top-earners.max-k:1000}")
+	private int maxTopK;
+
+	@Value("${employee.bulk-create.max-items:5000}")
+	private int maxBulkCreateItems;
+
+	private final Logger logger = LoggerFactory.getLogger(ReactiveEmployeeController.class);
+
+	/**
+	 * Streams as a chunked JSON array by default, or one employee per line with {@code Accept: application/x-ndjson}.
+	 * Either way nothing is buffered beyond the employee being written.
+	 */
+	@GetMapping()
+	public Flux<Employee> getAllEmployees() {
+		logger.debug("ReactiveEmployeeController|getAllEmployees|Entry");
+		return employeeService.findAllEmployees()
+				.doOnError(e -> logger.error("ReactiveEmployeeController|getAllEmployees|Error:{}", e.getMessage()));
+	}
+
+	@GetMapping(ApiConstants.REST_API_URI_GET_EMPLOYEES_BY_NAME)
+	public Flux<Employee> getEmployeesByNameSearch(@PathVariable String searchString) {
+		logger.debug("ReactiveEmployeeController|getEmployeesByNameSearch|Entry");
+		return employeeService.searchEmployeesByName(searchString).doOnError(
+				e -> logger.error("ReactiveEmployeeController|getEmployeesByNameSearch|Error:{}", e.getMessage()));
+	}
+
+	@GetMapping(ApiConstants.REST_API_URI_EMPLOYEE_ID)
+	public Mono<ResponseEntity<Employee>> getEmployeeById(@PathVariable String id) {
+		logger.debug("ReactiveEmployeeController|getEmployeeById|Entry");
+		return employeeService.findEmployeeById(id)
+				.switchIfEmpty(Mono.defer(() -> {
+					logger.warn("ReactiveEmployeeController|getEmployeeById|Employee not found for id: {}", id);
+					return Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND, "Employee not found"));
+				}))
+				.map(ResponseEntity::ok)
+				.doOnError(e -> logger.error("ReactiveEmployeeController|getEmployeeById|Error:{}", e.getMessage()));
+	}
+
+	@GetMapping(ApiConstants.REST_API_URI_GET_HIGHEST_SALARY)
+	public Mono<Integer> getHighestSalaryOfEmployees() {
+		logger.debug("ReactiveEmployeeController|getHighestSalaryOfEmployees|Entry");
+		return employeeService.findHighestSalary().doOnError(
+				e -> logger.error("ReactiveEmployeeController|getHighestSalaryOfEmployees|Error:{}", e.getMessage()));
+	}
+
+	@GetMapping(ApiConstants.REST_API_URI_GET_TOP_TEN_EMPLOYEE_NAMES)
+	public Flux<String> getTopTenHighestEarningEmployeeNames() {
+		logger.debug("ReactiveEmployeeController|getTopTenHighestEarningEmployeeNames|Entry");
+		return employeeService.findTopTenHighestEarningEmployeeNames().doOnError(e -> logger
+				.error("ReactiveEmployeeController|getTopTenHighestEarningEmployeeNames|Error:{}", e.getMessage()));
+	}
+
+	@GetMapping(ApiConstants.REST_API_URI_GET_TOP_K_EMPLOYEE_NAMES)
+	public Flux<String> getTopHighestEarningEmployeeNames(@PathVariable int k) {
+		logger.debug("ReactiveEmployeeController|getTopHighestEarningEmployeeNames|Entry");
+		EmployeeInputValidator.validateTopK(k, maxTopK);
+		return employeeService.findTopHighestEarningEmployeeNames(k).doOnError(e -> logger
+				.error("ReactiveEmployeeController|getTopHighestEarningEmployeeNames|Error:{}", e.getMessage()));
+	}
+
+	@PostMapping()
+	public Mono<Object> createEmployee(@RequestBody Map<String, Object> employeeInput) {
+		logger.debug("ReactiveEmployeeController|createEmployee|Entry");
+		EmployeeInputValidator.validate(employeeInput);
+		return employeeService.create(employeeInput)
+				.doOnError(e -> logger.error("ReactiveEmployeeController|createEmployee|Error:{}", e.getMessage()));
+	}
+
+	/**
+	 * Creates a batch of employees. Every item is validated before anything is sent upstream; results are streamed one
+	 * per line as each create completes.
+	 */
+	@PostMapping(value = ApiConstants.REST_API_URI_CREATE_EMPLOYEES_BULK, produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public Flux<BulkCreateResultDTO> createEmployees(@RequestBody List<Map<String, Object>> employeeInputs) {
+		logger.debug("ReactiveEmployeeController|createEmployees|Entry");
+		EmployeeInputValidator.validateBulk(employeeInputs, maxBulkCreateItems);
+		return employeeService.createAll(employeeInputs)
+				.doOnError(e -> logger.error("ReactiveEmployeeController|createEmployees|Error:{}", e.getMessage()));
+	}
+
+	@DeleteMapping(ApiConstants.REST_API_URI_EMPLOYEE_ID)
+	public Mono<Object> deleteEmployeeById(@PathVariable String id) {
+		logger.debug("ReactiveEmployeeController|deleteEmployeeById|Entry");
+		return employeeService.deleteById(id)
+				.doOnError(e -> logger.error("ReactiveEmployeeController|deleteEmployeeById|Error:{}", e.getMessage()));
+	}
+
+}
@@ -0,0 +1,69 @@
+package com.reliaquest.api.dtos;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Outcome of one item of a bulk create, streamed back as soon as that item completes. {@code index} is the item's
+ * position in the submitted array, since results arrive in completion order.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkCreateResultDTO {
+
+    public static final String STATUS_CREATED = "created";
+    public static final String STATUS_FAILED = "failed";
+
+    private int index;
+    private String status;
+    private Object employee;
+    private String error;
+
+    public BulkCreateResultDTO() {}
+
+    public static BulkCreateResultDTO created(int index, Object employee) {
+        BulkCreateResultDTO result = new BulkCreateResultDTO();
+        result.setIndex(index);
+        result.setStatus(STATUS_CREATED);
+        result.setEmployee(employee);
+        return result;
+    }
+
+    public static BulkCreateResultDTO failed(int index, String error) {
+        BulkCreateResultDTO result = new BulkCreateResultDTO();
+        result.setIndex(index);
+        result.setStatus(STATUS_FAILED);
+        result.setError(error);
+        return result;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public Object getEmployee() {
+        return employee;
+    }
+
+    public void setEmployee(Object employee) {
+        this.employee = employee;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
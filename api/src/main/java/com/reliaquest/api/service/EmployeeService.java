@@ -17,6 +17,8 @@ public interface EmployeeService {
 
 	List<String> getTopTenHighestEarningEmployeeNames();
 
+	List<String> getTopHighestEarningEmployeeNames(int k);
+
 	Object createEmployee(Map<String, Object> employeeInput);
 
 	Object deleteEmployee(String id);
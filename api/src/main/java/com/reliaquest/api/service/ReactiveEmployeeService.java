@@ -0,0 +1,41 @@
+package com.reliaquest.api.service;
+
+import java.util.List;
+import java.util.Map;
+
+import com.reliaquest.api.dtos.BulkCreateResultDTO;
+import com.reliaquest.api.dtos.Employee;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking contract of the employee service. {@link EmployeeService} is the blocking adapter over the same
+ * implementation, used by the servlet controller whose signatures are fixed by
+ * {@link com.reliaquest.api.controller.IEmployeeController}.
+ */
+public interface ReactiveEmployeeService {
+
+	Flux<Employee> findAllEmployees();
+
+	Mono<Employee> findEmployeeById(String id);
+
+	Flux<Employee> searchEmployeesByName(String searchString);
+
+	Mono<Integer> findHighestSalary();
+
+	Flux<String> findTopTenHighestEarningEmployeeNames();
+
+	Flux<String> findTopHighestEarningEmployeeNames(int k);
+
+	Mono<Object> create(Map<String, Object> employeeInput);
+
+	/**
+	 * Creates every input, a bounded number at a time, emitting one result per item as it completes. A failed item
+	 * does not stop the others.
+	 */
+	Flux<BulkCreateResultDTO> createAll(List<Map<String, Object>> employeeInputs);
+
+	Mono<Object> deleteById(String id);
+
+}
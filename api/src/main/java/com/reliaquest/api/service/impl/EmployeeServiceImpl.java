@@ -2,12 +2,21 @@ package com.reliaquest.api.service.impl;
 
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
+import com.reliaquest.api.cache.EmployeeNameLookup;
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.cache.RosterSnapshot;
+import com.reliaquest.api.client.EmployeeBatchLoader;
+import com.reliaquest.api.client.EmployeeStreamDecoder;
+import com.reliaquest.api.client.RateLimitAwareExchangeFilter;
+import com.reliaquest.api.client.UpstreamRequestCoalescer;
 import com.reliaquest.api.dtos.DeleteEmployeeByNameDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
@@ -16,123 +25,246 @@ import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
 
 import com.reliaquest.api.constants.ApiConstants;
+import com.reliaquest.api.dtos.BulkCreateResultDTO;
 import com.reliaquest.api.dtos.Employee;
-import com.reliaquest.api.dtos.EmployeeByIdResponseDTO;
-import com.reliaquest.api.dtos.EmployeeListResponseDTO;
 import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.service.ReactiveEmployeeService;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+/**
+ * All logic lives in the reactive methods; the blocking {@link EmployeeService} methods only subscribe and wait, and
+ * are used solely by the servlet controller.
+ */
 @Service
-public class EmployeeServiceImpl implements EmployeeService{
+public class EmployeeServiceImpl implements EmployeeService, ReactiveEmployeeService {
 
 	@Autowired
 	public WebClient webClient;
 
+	@Autowired
+	private EmployeeRosterCache rosterCache;
+
+	@Autowired
+	private EmployeeNameLookup employeeNameLookup;
+
+	@Autowired
+	private UpstreamRequestCoalescer requestCoalescer;
+
+	@Autowired
+	private EmployeeStreamDecoder employeeStreamDecoder;
+
+	@Autowired
+	private EmployeeBatchLoader employeeBatchLoader;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private RateLimitAwareExchangeFilter rateLimitAwareExchangeFilter;
+
+	@Value("${employee.bulk-create.concurrency:4}")
+	private int bulkCreateConcurrency;
+
 	private final Logger logger = LoggerFactory.getLogger(EmployeeServiceImpl.class);
 
 	@Override
 	public List<Employee> getAllEmployeeList() {
 		logger.debug("EmployeeService|getAllEmployeeList|Entry");
-		Mono<EmployeeListResponseDTO> employeeMono = webClient.get().uri(ApiConstants.REST_API_URI_GET_ALL_EMPLOYEES)
-				.retrieve().bodyToMono(EmployeeListResponseDTO.class);
-
+		// the servlet response needs the whole list anyway, so let the derived endpoints reuse it
+		List<Employee> employeeList = rosterCache.publishing(this::fetchRoster).block();
 		logger.debug("EmployeeService|getAllEmployeeList|Exit");
-		return employeeMono.block().getData();
+		return employeeList;
 	}
 
 	@Override
 	public Employee getEmployeeById(String id) {
 		logger.debug("EmployeeService|getEmployeeById|Entry");
-
-		Mono<EmployeeByIdResponseDTO> employeeMono = webClient.get()
-				.uri(ApiConstants.REST_API_URI_GET_EMPLOYEE_BY_ID + id).retrieve()
-				.bodyToMono(EmployeeByIdResponseDTO.class);
-
+		Employee employee = findEmployeeById(id).block();
 		logger.debug("EmployeeService|getEmployeeById|Exit");
-
-		return employeeMono.block().getData();
+		return employee;
 	}
 
 	@Override
 	public List<Employee> getEmployeeBySearchName(String searchString) {
 		logger.debug("EmployeeService|getEmployeeBySearchName|Entry");
-
-		List<Employee> employeeList = getAllEmployeeList();
-
+		List<Employee> employeeList = searchEmployeesByName(searchString).collectList().block();
 		logger.debug("EmployeeService|getEmployeeBySearchName|Exit");
-
-		return employeeList.stream().filter(emp -> emp.getEmployeeName().toLowerCase().contains(searchString.toLowerCase()))
-				.collect(Collectors.toList());
+		return employeeList;
 	}
 
 	@Override
 	public Integer getHighestSalaryOfEmployee() {
 		logger.debug("EmployeeService|getHighestSalaryOfEmployee|Entry");
-
-		List<Employee> employeeList = getAllEmployeeList();
+		Integer highestSalary = findHighestSalary().block();
 		logger.debug("EmployeeService|getHighestSalaryOfEmployee|Exit");
-
-		//return employeeList.stream().map(emp -> emp.getEmployeeSalary()).mapToInt(Integer::parseInt).max().getAsInt();
-		return employeeList.stream()
-				.mapToInt(Employee::getEmployeeSalary)
-				.max()
-				.orElseThrow(() -> new RuntimeException("No employees found"));
+		return highestSalary;
 	}
 
 	@Override
 	public List<String> getTopTenHighestEarningEmployeeNames() {
 		logger.debug("EmployeeService|getTopTenHighestEarningEmployeeNames|Entry");
-
-		List<Employee> employeeList = getAllEmployeeList();
-
+		List<String> employeeNames = findTopTenHighestEarningEmployeeNames().collectList().block();
 		logger.debug("EmployeeService|getTopTenHighestEarningEmployeeNames|Exit");
+		return employeeNames;
+	}
 
-		return employeeList.stream().sorted().map(emp -> emp.getEmployeeName()).limit(10).collect(Collectors.toList());
+	@Override
+	public List<String> getTopHighestEarningEmployeeNames(int k) {
+		logger.debug("EmployeeService|getTopHighestEarningEmployeeNames|Entry");
+		List<String> employeeNames = findTopHighestEarningEmployeeNames(k).collectList().block();
+		logger.debug("EmployeeService|getTopHighestEarningEmployeeNames|Exit");
+		return employeeNames;
 	}
 
 	@Override
 	public Object createEmployee(Map<String, Object> employeeInput) {
 		logger.debug("EmployeeService|createEmployee|Entry");
-
-		Object employeeMono = webClient.post().uri(ApiConstants.REST_API_URI_CREATE_EMPLOYEE)
-				.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-				.body(BodyInserters.fromValue(employeeInput)).retrieve().bodyToMono(Map.class).block();
-
+		Object employee = create(employeeInput).block();
 		logger.debug("EmployeeService|createEmployee|Exit");
-
-		return employeeMono;
+		return employee;
 	}
 
 	@Override
 	public Object deleteEmployee(String id) {
 		logger.debug("EmployeeService|deleteEmployee|Entry");
+		Object deleted = deleteById(id).block();
+		logger.debug("EmployeeService|deleteEmployee|Exit");
+		return deleted;
+	}
 
-		// Step 1: Get employee by ID to fetch their name
-		Employee employee = getEmployeeById(id);
+	@Override
+	public Flux<Employee> findAllEmployees() {
+		// streamed straight through from upstream; nothing holds the full list
+		return streamAllEmployees();
+	}
 
-		if (employee == null) {
-			logger.error("Employee not found with ID: " + id);
-			throw new RuntimeException("Employee not found with ID: " + id);
-		}
+	@Override
+	public Mono<Employee> findEmployeeById(String id) {
+		String uri = ApiConstants.REST_API_URI_GET_EMPLOYEE_BY_ID + id;
+		// ids asked for within a few milliseconds of each other share one batch-get call
+		return requestCoalescer.execute(uri, () -> employeeBatchLoader.load(id))
+				.doOnNext(employeeNameLookup::remember);
+	}
+
+	@Override
+	public Flux<Employee> searchEmployeesByName(String searchString) {
+		return currentRoster().flatMapIterable(snapshot -> snapshot.getNameIndex().search(searchString));
+	}
+
+	@Override
+	public Mono<Integer> findHighestSalary() {
+		return currentRoster().map(snapshot -> snapshot.getSalaryIndex().highestSalary()
+				.orElseThrow(() -> new RuntimeException("No employees found")));
+	}
+
+	@Override
+	public Flux<String> findTopTenHighestEarningEmployeeNames() {
+		return findTopHighestEarningEmployeeNames(10);
+	}
+
+	@Override
+	public Flux<String> findTopHighestEarningEmployeeNames(int k) {
+		return currentRoster().flatMapIterable(snapshot -> snapshot.getSalaryIndex().top(k))
+				.map(Employee::getEmployeeName);
+	}
 
-		// Step 2: Create DeleteEmployeeByNameDTO with the employee name
-		DeleteEmployeeByNameDTO deleteInput = new DeleteEmployeeByNameDTO();
-		deleteInput.setName(employee.getEmployeeName());
+	@Override
+	public Mono<Object> create(Map<String, Object> employeeInput) {
+		return create(employeeInput, false);
+	}
 
-		// Step 3: Call delete API using method() since delete() doesn't support body
-		Object employeeMono = webClient.method(HttpMethod.DELETE)
-				.uri(ApiConstants.REST_API_URI_DELETE_EMPLOYEE)
+	/*
+	 * A paced create waits for its rate-limit permit instead of failing once the wait passes the limiter's max-wait.
+	 */
+	private Mono<Object> create(Map<String, Object> employeeInput, boolean paced) {
+		WebClient.RequestBodySpec request = webClient.post().uri(ApiConstants.REST_API_URI_CREATE_EMPLOYEE);
+		if (paced) {
+			request = request.attribute(RateLimitAwareExchangeFilter.WAIT_FOR_PERMIT_ATTRIBUTE, true);
+		}
+		return request
 				.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-				.bodyValue(deleteInput) // Send DeleteEmployeeByNameDTO object
-				.retrieve()
-				.bodyToMono(Object.class)
-				.block();
+				.body(BodyInserters.fromValue(employeeInput)).retrieve().bodyToMono(Map.class)
+				.doOnNext(response -> {
+					Object created = response.get("data");
+					if (created != null) {
+						Employee employee = objectMapper.convertValue(created, Employee.class);
+						employeeNameLookup.remember(employee);
+						rosterCache.applyCreated(employee);
+					}
+				})
+				.cast(Object.class);
+	}
 
-		logger.debug("EmployeeService|deleteEmployee|Exit");
-		return employeeMono;
+	@Override
+	public Flux<BulkCreateResultDTO> createAll(List<Map<String, Object>> employeeInputs) {
+		// never keep more creates in flight than the learned upstream budget; the rest wait here, and those in flight wait
+		// in the limiter for however long the budget takes to allow them, rather than failing past its max-wait
+		int concurrency = Math.max(1, Math.min(bulkCreateConcurrency, rateLimitAwareExchangeFilter.getLearnedLimit()));
+		logger.debug("EmployeeService|createAll|Creating {} employees, {} at a time", employeeInputs.size(),
+				concurrency);
+		return Flux.range(0, employeeInputs.size())
+				.flatMap(index -> create(employeeInputs.get(index), true)
+						.map(response -> BulkCreateResultDTO.created(index,
+								response instanceof Map<?, ?> body ? body.get("data") : response))
+						.onErrorResume(e -> {
+							logger.warn("EmployeeService|createAll|Error:item {} {}", index, e.getMessage());
+							return Mono.just(BulkCreateResultDTO.failed(index, e.getMessage()));
+						}), concurrency);
 	}
 
-	
+	@Override
+	public Mono<Object> deleteById(String id) {
+		// Step 1: Resolve the name, only asking upstream when the id is not known to still exist
+		Mono<String> employeeName = Mono.defer(() -> employeeNameLookup
+				.findName(id, rosterCache.getCurrentSnapshot()).map(Mono::just)
+				.orElseGet(() -> findEmployeeById(id).map(Employee::getEmployeeName)));
+		return employeeName
+				.switchIfEmpty(Mono.defer(() -> {
+					logger.error("Employee not found with ID: " + id);
+					return Mono.error(new RuntimeException("Employee not found with ID: " + id));
+				}))
+				.flatMap(name -> {
+					// Step 2: Create DeleteEmployeeByNameDTO with the employee name
+					DeleteEmployeeByNameDTO deleteInput = new DeleteEmployeeByNameDTO();
+					deleteInput.setName(name);
+
+					// Step 3: Call delete API using method() since delete() doesn't support body
+					return webClient.method(HttpMethod.DELETE)
+							.uri(ApiConstants.REST_API_URI_DELETE_EMPLOYEE)
+							.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+							.bodyValue(deleteInput) // Send DeleteEmployeeByNameDTO object
+							.retrieve()
+							.bodyToMono(Object.class)
+							.doOnNext(response -> {
+								// the server answers {"data": true} when it actually removed someone
+								if (response instanceof Map<?, ?> body && Boolean.TRUE.equals(body.get("data"))) {
+									employeeNameLookup.forget(id);
+									rosterCache.applyDeleted(id, name);
+								}
+							});
+				});
+	}
+
+	/**
+	 * Read-only endpoints are served from the cached roster snapshot instead of downloading the full list per request.
+	 */
+	private Mono<RosterSnapshot> currentRoster() {
+		return rosterCache.getSnapshot(this::fetchRoster);
+	}
+
+	/**
+	 * The full roster as one list, for callers that genuinely need all of it. Concurrent callers share one download.
+	 */
+	private Mono<List<Employee>> fetchRoster() {
+		return requestCoalescer.execute(ApiConstants.REST_API_URI_GET_ALL_EMPLOYEES,
+				() -> streamAllEmployees().collectList());
+	}
+
+	private Flux<Employee> streamAllEmployees() {
+		return employeeStreamDecoder.decode(webClient.get().uri(ApiConstants.REST_API_URI_GET_ALL_EMPLOYEES)
+				.retrieve().bodyToFlux(DataBuffer.class)).doOnNext(employeeNameLookup::remember);
+	}
 
 }
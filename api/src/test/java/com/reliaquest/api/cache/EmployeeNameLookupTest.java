@@ -0,0 +1,64 @@
+package com.reliaquest.api.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static com.reliaquest.api.util.TestDataUtil.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeNameLookupTest {
+
+    private final EmployeeNameLookup lookup = new EmployeeNameLookup(new SimpleMeterRegistry(), 2);
+
+    @Test
+    void findName_NoSnapshot_UsesRememberedName() {
+        // Arrange
+        lookup.remember(createMockEmployee("1", "John Doe", 50000, 30));
+
+        // Act & Assert
+        assertEquals("John Doe", lookup.findName("1", null).orElseThrow());
+        assertEquals(1, lookup.getHitCount());
+    }
+
+    @Test
+    void findName_IdMissingFromSnapshot_IsMissAndForgotten() {
+        // Arrange
+        lookup.remember(createMockEmployee("1", "John Doe", 50000, 30));
+        RosterSnapshot snapshot = new RosterSnapshot(1,
+                List.of(createMockEmployee("2", "John Doe", 50000, 30)), Instant.now());
+
+        // Act & Assert
+        assertTrue(lookup.findName("1", snapshot).isEmpty());
+        assertTrue(lookup.findName("1", null).isEmpty());
+        assertEquals(2, lookup.getMissCount());
+    }
+
+    @Test
+    void findName_IdInSnapshot_UsesSnapshotName() {
+        // Arrange
+        RosterSnapshot snapshot = new RosterSnapshot(1,
+                List.of(createMockEmployee("1", "Jane Smith", 50000, 30)), Instant.now());
+
+        // Act & Assert
+        assertEquals("Jane Smith", lookup.findName("1", snapshot).orElseThrow());
+    }
+
+    @Test
+    void remember_BeyondCapacity_EvictsLeastRecentlyUsed() {
+        // Arrange
+        lookup.remember(createMockEmployee("1", "John Doe", 50000, 30));
+        lookup.remember(createMockEmployee("2", "Jane Smith", 50000, 30));
+        lookup.findName("1", null);
+
+        // Act
+        lookup.remember(createMockEmployee("3", "Bob Johnson", 50000, 30));
+
+        // Assert
+        assertTrue(lookup.findName("1", null).isPresent());
+        assertTrue(lookup.findName("2", null).isEmpty());
+        assertTrue(lookup.findName("3", null).isPresent());
+    }
+}
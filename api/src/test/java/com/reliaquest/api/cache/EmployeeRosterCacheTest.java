@@ -0,0 +1,157 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.dtos.Employee;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static com.reliaquest.api.util.TestDataUtil.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeRosterCacheTest {
+
+    @Test
+    void getSnapshot_ColdCache_LoadsOnceAndReusesSnapshot() {
+        // Arrange
+        EmployeeRosterCache cache = new EmployeeRosterCache(Duration.ofMinutes(5));
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        RosterSnapshot first = cache.getSnapshot(() -> {
+            loads.incrementAndGet();
+            return Mono.just(createMockEmployeeList());
+        }).block();
+        RosterSnapshot second = cache.getSnapshot(() -> {
+            loads.incrementAndGet();
+            return Mono.just(createMockEmployeeList());
+        }).block();
+
+        // Assert
+        assertNotNull(first);
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(2, first.getEmployees().size());
+    }
+
+    @Test
+    void getSnapshot_ExpiredSnapshot_ServesStaleWhileRefreshing() {
+        // Arrange
+        EmployeeRosterCache cache = new EmployeeRosterCache(Duration.ZERO);
+        RosterSnapshot stale = cache.publish(createMockEmployeeList());
+        Sinks.One<List<Employee>> pendingRefresh = Sinks.one();
+
+        // Act
+        RosterSnapshot served = cache.getSnapshot(pendingRefresh::asMono).block();
+
+        // Assert - the reader did not wait for the refresh
+        assertSame(stale, served);
+
+        pendingRefresh.tryEmitValue(createMockEmployeeListWithMultipleEmployees());
+        RosterSnapshot refreshed = cache.getSnapshot(() -> Mono.never()).block();
+        assertNotNull(refreshed);
+        assertTrue(refreshed.getVersion() > stale.getVersion());
+        assertEquals(5, refreshed.getEmployees().size());
+    }
+
+    @Test
+    void getSnapshot_FailedRefresh_KeepsLastGoodSnapshot() {
+        // Arrange
+        EmployeeRosterCache cache = new EmployeeRosterCache(Duration.ZERO);
+        RosterSnapshot lastGood = cache.publish(createMockEmployeeList());
+
+        // Act
+        RosterSnapshot served = cache.getSnapshot(() -> Mono.error(new RuntimeException("upstream down"))).block();
+
+        // Assert
+        assertSame(lastGood, served);
+    }
+
+    @Test
+    void publishing_RefreshStartedBeforeCreate_DoesNotLoseCreatedEmployee() {
+        // Arrange
+        EmployeeRosterCache cache = new EmployeeRosterCache(Duration.ofMinutes(5));
+        cache.publish(createMockEmployeeList());
+        Sinks.One<List<Employee>> inFlight = Sinks.one();
+        cache.publishing(inFlight::asMono).subscribe();
+
+        // Act - the create lands while the reload is on the wire, which then answers without it
+        cache.applyCreated(createMockEmployee("9", "New Hire", 99000, 30));
+        inFlight.tryEmitValue(createMockEmployeeList());
+
+        // Assert
+        RosterSnapshot current = cache.getSnapshot(Mono::never).block();
+        assertEquals(List.of("John Doe", "Jane Smith", "New Hire"), names(current));
+        assertEquals(99000, current.getSalaryIndex().highestSalary().getAsInt());
+    }
+
+    @Test
+    void publishing_RefreshStartedBeforeDelete_DoesNotResurrectDeletedEmployee() {
+        // Arrange
+        EmployeeRosterCache cache = new EmployeeRosterCache(Duration.ofMinutes(5));
+        cache.publish(createMockEmployeeList());
+        Sinks.One<List<Employee>> inFlight = Sinks.one();
+        cache.publishing(inFlight::asMono).subscribe();
+
+        // Act
+        cache.applyDeleted("1", "John Doe");
+        inFlight.tryEmitValue(createMockEmployeeList());
+
+        // Assert
+        assertEquals(List.of("Jane Smith"), names(cache.getSnapshot(Mono::never).block()));
+    }
+
+    @Test
+    void publishing_ConfirmedWrites_LeaveTheJournal() {
+        // Arrange
+        EmployeeRosterCache cache = new EmployeeRosterCache(Duration.ofMinutes(5));
+        cache.publish(createMockEmployeeList());
+        Employee hire = createMockEmployee("9", "New Hire", 99000, 30);
+        cache.applyCreated(hire);
+        cache.publish(List.of(createMockEmployee("1", "John Doe", 75000, 30), hire));
+
+        // Act - another client deletes the hire; the next load must not bring it back
+        cache.publish(List.of(createMockEmployee("1", "John Doe", 75000, 30)));
+
+        // Assert
+        assertEquals(List.of("John Doe"), names(cache.getSnapshot(Mono::never).block()));
+    }
+
+    @Test
+    void publishing_LoadOvertakenByNewerLoad_IsDropped() {
+        // Arrange
+        EmployeeRosterCache cache = new EmployeeRosterCache(Duration.ofMinutes(5));
+        Sinks.One<List<Employee>> older = Sinks.one();
+        Sinks.One<List<Employee>> newer = Sinks.one();
+        cache.publishing(older::asMono).subscribe();
+        cache.publishing(newer::asMono).subscribe();
+
+        // Act
+        newer.tryEmitValue(createMockEmployeeListWithMultipleEmployees());
+        older.tryEmitValue(createMockEmployeeList());
+
+        // Assert
+        assertEquals(5, cache.getSnapshot(Mono::never).block().getEmployees().size());
+    }
+
+    @Test
+    void applyCreated_EmployeeAlreadyInSnapshot_IsNotDuplicated() {
+        // Arrange
+        EmployeeRosterCache cache = new EmployeeRosterCache(Duration.ofMinutes(5));
+        cache.publish(createMockEmployeeList());
+
+        // Act
+        cache.applyCreated(createMockEmployee("1", "John Doe", 75000, 30));
+
+        // Assert
+        assertEquals(2, cache.getSnapshot(Mono::never).block().getEmployees().size());
+    }
+
+    private static List<String> names(RosterSnapshot snapshot) {
+        return snapshot.getEmployees().stream().map(Employee::getEmployeeName).collect(Collectors.toList());
+    }
+}
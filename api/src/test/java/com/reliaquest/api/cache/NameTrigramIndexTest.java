@@ -0,0 +1,131 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.dtos.Employee;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static com.reliaquest.api.util.TestDataUtil.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class NameTrigramIndexTest {
+
+    @Test
+    void search_MatchesSubstringIgnoringCase() {
+        // Arrange
+        NameTrigramIndex index = NameTrigramIndex.of(createMockEmployeeListWithMultipleEmployees());
+
+        // Act & Assert
+        assertEquals(Arrays.asList("John Doe", "Bob Johnson"), names(index.search("JOHN")));
+        assertEquals(Arrays.asList("Charlie Wilson"), names(index.search("lie wil")));
+        assertTrue(index.search("xyz").isEmpty());
+    }
+
+    @Test
+    void search_ShortQueries_FallBackToScan() {
+        // Arrange
+        NameTrigramIndex index = NameTrigramIndex.of(createMockEmployeeListWithMultipleEmployees());
+
+        // Act & Assert
+        assertEquals(Arrays.asList("John Doe", "Bob Johnson"), names(index.search("jo")));
+        assertEquals(5, index.search("").size());
+    }
+
+    @Test
+    void search_TrigramsPresentButNotContiguous_AreNotMatched() {
+        // Arrange
+        NameTrigramIndex index = NameTrigramIndex.of(List.of(createMockEmployee("1", "abcd xbcde", 1, 30)));
+
+        // Act & Assert
+        assertTrue(index.search("abcde").isEmpty());
+        assertEquals(1, index.search("bcde").size());
+    }
+
+    @Test
+    void withAddedAndRemoved_KeepIndexInStepWithRoster() {
+        // Arrange
+        Employee bob = createMockEmployee("3", "Bob Johnson", 90000, 35);
+        NameTrigramIndex index = NameTrigramIndex.of(Arrays.asList(
+                createMockEmployee("1", "John Doe", 75000, 30), bob));
+
+        // Act
+        NameTrigramIndex updated = index.withAdded(createMockEmployee("9", "Johnny Cash", 50000, 40)).withRemoved(bob);
+
+        // Assert
+        assertEquals(Arrays.asList("John Doe", "Johnny Cash"), names(updated.search("john")));
+        assertEquals(Arrays.asList("John Doe", "Bob Johnson"), names(index.search("john")));
+    }
+
+    @Test
+    void withAdded_CommonTrigramAcrossManyChunks_KeepsEverySlotInOrder() {
+        // Arrange
+        List<Employee> roster = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            roster.add(createMockEmployee(String.valueOf(i), "Ann " + i, 1000, 30));
+        }
+        NameTrigramIndex initial = NameTrigramIndex.of(roster);
+
+        // Act
+        NameTrigramIndex index = initial;
+        for (int i = 100; i < 300; i++) {
+            Employee added = createMockEmployee(String.valueOf(i), "Ann " + i, 1000, 30);
+            roster.add(added);
+            index = index.withAdded(added);
+        }
+
+        // Assert
+        assertEquals(roster, index.search("ANN"));
+        assertEquals(100, initial.search("ann").size());
+        assertEquals(Arrays.asList("Ann 250"), names(index.search("ann 250")));
+        assertEquals(Arrays.asList("Ann 299"), names(index.withRemoved(roster.get(0)).search("n 299")));
+    }
+
+    @Test
+    void search_MatchesLinearContainsOnRandomRosterUnderChurn() {
+        // Arrange
+        Random random = new Random(7);
+        String alphabet = "abcAB ";
+        List<Employee> roster = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            roster.add(createMockEmployee(String.valueOf(i), randomString(random, alphabet, 4 + random.nextInt(8)),
+                    1000, 30));
+        }
+        NameTrigramIndex index = NameTrigramIndex.of(roster);
+        for (int i = 0; i < 200; i++) {
+            if (random.nextBoolean() && !roster.isEmpty()) {
+                Employee removed = roster.remove(random.nextInt(roster.size()));
+                index = index.withRemoved(removed);
+            } else {
+                Employee added = createMockEmployee("n" + i, randomString(random, alphabet, 4 + random.nextInt(8)),
+                        1000, 30);
+                roster.add(added);
+                index = index.withAdded(added);
+            }
+        }
+
+        // Act & Assert
+        for (int i = 0; i < 500; i++) {
+            String query = randomString(random, alphabet, random.nextInt(6));
+            List<Employee> expected = roster.stream()
+                    .filter(emp -> emp.getEmployeeName().toLowerCase().contains(query.toLowerCase()))
+                    .collect(Collectors.toList());
+            assertEquals(expected, index.search(query), "query '" + query + "'");
+        }
+    }
+
+    private static String randomString(Random random, String alphabet, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return builder.toString();
+    }
+
+    private static List<String> names(List<Employee> employees) {
+        return employees.stream().map(Employee::getEmployeeName).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,114 @@
+package com.reliaquest.api.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistentSortedMapTest {
+
+    @Test
+    void putAndRemove_MatchTreeMapUnderRandomChurn() {
+        // Arrange
+        Random random = new Random(42);
+        TreeMap<Integer, String> model = new TreeMap<>();
+        PersistentSortedMap<Integer, String> map = PersistentSortedMap.empty(Comparator.naturalOrder());
+
+        for (int i = 0; i < 5000; i++) {
+            // Act
+            int key = random.nextInt(500);
+            if (random.nextInt(3) == 0) {
+                model.remove(key);
+                map = map.remove(key);
+            } else {
+                model.put(key, "v" + i);
+                map = map.put(key, "v" + i);
+            }
+
+            // Assert
+            int probe = random.nextInt(520);
+            assertEquals(model.get(probe), map.get(probe));
+            Map.Entry<Integer, String> ceiling = map.ceilingEntry(probe);
+            assertEquals(model.ceilingKey(probe), ceiling == null ? null : ceiling.getKey());
+        }
+        assertEquals(model.size(), map.size());
+        assertEquals(new ArrayList<>(model.values()), map.values());
+        assertEquals(model.firstKey(), map.firstEntry().getKey());
+    }
+
+    @Test
+    void put_LeavesOriginalMapUnchanged() {
+        // Arrange
+        PersistentSortedMap<Integer, String> original = PersistentSortedMap.ofSorted(Comparator.naturalOrder(),
+                List.of(Map.entry(1, "a"), Map.entry(3, "c")));
+
+        // Act
+        PersistentSortedMap<Integer, String> updated = original.put(2, "b").remove(1);
+
+        // Assert
+        assertEquals(List.of("a", "c"), original.values());
+        assertEquals(List.of("b", "c"), updated.values());
+    }
+
+    @Test
+    void remove_AbsentKey_ReturnsSameMap() {
+        // Arrange
+        PersistentSortedMap<Integer, String> map = PersistentSortedMap.ofSorted(Comparator.naturalOrder(),
+                List.of(Map.entry(1, "a")));
+
+        // Act & Assert
+        assertSame(map, map.remove(2));
+    }
+
+    @Test
+    void ofSorted_DuplicateKeys_KeepsFirst() {
+        // Act
+        PersistentSortedMap<Integer, String> map = PersistentSortedMap.ofSorted(Comparator.naturalOrder(),
+                List.of(Map.entry(1, "a"), Map.entry(1, "b"), Map.entry(2, "c")));
+
+        // Assert
+        assertEquals(List.of("a", "c"), map.values());
+    }
+
+    @Test
+    void values_PositionalAccessMatchesIterationOrder() {
+        // Arrange
+        List<Map.Entry<Integer, Integer>> entries = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            entries.add(Map.entry(i * 2, i));
+        }
+        PersistentSortedMap<Integer, Integer> map = PersistentSortedMap.ofSorted(Comparator.naturalOrder(), entries)
+                .put(31, -1);
+
+        // Act
+        List<Integer> values = map.values();
+
+        // Assert
+        assertEquals(101, values.size());
+        assertEquals(-1, values.get(16));
+        assertEquals(new ArrayList<>(values), List.copyOf(values));
+        assertThrows(IndexOutOfBoundsException.class, () -> values.get(101));
+    }
+
+    @Test
+    void tailEntries_StartsAtCeilingKey() {
+        // Arrange
+        PersistentSortedMap<Integer, String> map = PersistentSortedMap.ofSorted(Comparator.naturalOrder(),
+                List.of(Map.entry(1, "a"), Map.entry(3, "c"), Map.entry(5, "e")));
+
+        // Act
+        List<Integer> keys = new ArrayList<>();
+        for (Map.Entry<Integer, String> entry : map.tailEntries(2)) {
+            keys.add(entry.getKey());
+        }
+
+        // Assert
+        assertEquals(List.of(3, 5), keys);
+    }
+}
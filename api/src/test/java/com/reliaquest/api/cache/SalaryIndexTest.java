@@ -0,0 +1,126 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.dtos.Employee;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static com.reliaquest.api.util.TestDataUtil.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SalaryIndexTest {
+
+    @Test
+    void top_ReturnsHighestEarnersInDescendingOrder() {
+        // Act
+        List<Employee> result = SalaryIndex.of(createMockEmployeeListWithMultipleEmployees()).top(3);
+
+        // Assert
+        assertEquals(Arrays.asList("Alice Brown", "Bob Johnson", "Charlie Wilson"), names(result));
+    }
+
+    @Test
+    void top_TiesAreBrokenByNameThenId() {
+        // Arrange
+        List<Employee> employees = Arrays.asList(
+                createMockEmployee("3", "Zoe", 50000, 30),
+                createMockEmployee("2", "Adam", 50000, 30),
+                createMockEmployee("1", "Adam", 50000, 30),
+                createMockEmployee("4", "Mia", 40000, 30));
+
+        // Act
+        List<Employee> result = SalaryIndex.of(employees).top(2);
+
+        // Assert
+        assertEquals("1", result.get(0).getId());
+        assertEquals("2", result.get(1).getId());
+    }
+
+    @Test
+    void top_KLargerThanRoster_ReturnsWholeRosterRanked() {
+        // Act
+        List<Employee> result = SalaryIndex.of(createMockEmployeeList()).top(10);
+
+        // Assert
+        assertEquals(Arrays.asList("Jane Smith", "John Doe"), names(result));
+    }
+
+    @Test
+    void top_MatchesFullSortOnRandomRoster() {
+        // Arrange
+        Random random = new Random(42);
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            employees.add(createMockEmployee(String.valueOf(i), "Employee " + random.nextInt(50),
+                    30000 + random.nextInt(200) * 1000, 30));
+        }
+        List<Employee> expected = new ArrayList<>(employees);
+        expected.sort(SalaryIndex.BY_SALARY_DESCENDING);
+
+        // Act
+        Collections.shuffle(employees, random);
+        List<Employee> result = SalaryIndex.of(employees).top(25);
+
+        // Assert
+        assertEquals(expected.subList(0, 25), result);
+    }
+
+    @Test
+    void top_NonPositiveK_ReturnsEmptyList() {
+        assertTrue(SalaryIndex.of(createMockEmployeeList()).top(0).isEmpty());
+    }
+
+    @Test
+    void highestSalary_EmptyRoster_IsEmpty() {
+        assertTrue(SalaryIndex.of(Collections.emptyList()).highestSalary().isEmpty());
+    }
+
+    @Test
+    void withEmployeeAdded_UpdatesAggregatesWithoutTouchingOriginal() {
+        // Arrange
+        RosterSnapshot snapshot = new RosterSnapshot(1, createMockEmployeeListWithMultipleEmployees(), Instant.now());
+
+        // Act
+        RosterSnapshot updated = snapshot.withEmployeeAdded(2, createMockEmployee("9", "New Hire", 99000, 30));
+
+        // Assert
+        assertEquals(99000, updated.getSalaryIndex().highestSalary().getAsInt());
+        assertEquals("New Hire", updated.getSalaryIndex().top(1).get(0).getEmployeeName());
+        assertEquals(95000, snapshot.getSalaryIndex().highestSalary().getAsInt());
+        assertEquals(snapshot.getEmployees().size() + 1, updated.getEmployees().size());
+    }
+
+    @Test
+    void withEmployeeRemoved_UpdatesAggregates() {
+        // Arrange
+        RosterSnapshot snapshot = new RosterSnapshot(1, createMockEmployeeListWithMultipleEmployees(), Instant.now());
+
+        // Act
+        RosterSnapshot updated = snapshot.withEmployeeRemoved(2, snapshot.firstNamed("alice brown"));
+
+        // Assert
+        assertEquals(90000, updated.getSalaryIndex().highestSalary().getAsInt());
+        assertFalse(names(updated.getEmployees()).contains("Alice Brown"));
+        assertEquals(2, updated.getVersion());
+    }
+
+    @Test
+    void withEmployeeRemoved_UnknownEmployee_ReturnsSameSnapshot() {
+        // Arrange
+        RosterSnapshot snapshot = new RosterSnapshot(1, createMockEmployeeList(), Instant.now());
+
+        // Act & Assert
+        assertNull(snapshot.firstNamed("Nobody"));
+        assertSame(snapshot, snapshot.withEmployeeRemoved(2, createMockEmployee()));
+    }
+
+    private static List<String> names(List<Employee> employees) {
+        return employees.stream().map(Employee::getEmployeeName).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,104 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.dtos.Employee;
+import com.reliaquest.api.dtos.EmployeeListResponseDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.reliaquest.api.util.TestDataUtil.createMockEmployee;
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeBatchLoaderTest {
+
+    private static final String ALICE_ID = "0b3c5a5e-8f43-4c43-a1a4-8f6b3c8f2a01";
+    private static final String BOB_ID = "7d1e9c2a-44b1-4a0e-9d55-3f0f6b2e4c02";
+    private static final String UNKNOWN_ID = "c9a8f0d1-2b3c-4d5e-8f90-a1b2c3d4e503";
+
+    private final AtomicInteger batchCalls = new AtomicInteger();
+
+    @Test
+    void load_IdsWithinWindow_ShareOneBatchCall() {
+        // Arrange
+        EmployeeBatchLoader loader = new EmployeeBatchLoader(upstreamReturning(
+                createMockEmployee(ALICE_ID, "Alice", 1000, 30), createMockEmployee(BOB_ID, "Bob", 2000, 40)),
+                Duration.ofMillis(20), 100);
+
+        // Act
+        List<Employee> results = Mono.zip(
+                loader.load(ALICE_ID),
+                loader.load(BOB_ID.toUpperCase()),
+                loader.load(ALICE_ID),
+                (alice, bob, aliceAgain) -> Arrays.asList(alice, bob, aliceAgain)).block(Duration.ofSeconds(5));
+
+        // Assert
+        assertEquals("Alice", results.get(0).getEmployeeName());
+        assertEquals("Bob", results.get(1).getEmployeeName());
+        assertSame(results.get(0), results.get(2));
+        assertEquals(1, batchCalls.get());
+    }
+
+    @Test
+    void load_UnknownId_CompletesEmpty() {
+        // Arrange
+        EmployeeBatchLoader loader = new EmployeeBatchLoader(upstreamReturning(
+                createMockEmployee(ALICE_ID, "Alice", 1000, 30)), Duration.ofMillis(5), 100);
+
+        // Act & Assert
+        assertNull(loader.load(UNKNOWN_ID).block(Duration.ofSeconds(5)));
+    }
+
+    @Test
+    void load_FullBatch_IsSentWithoutWaitingForWindow() {
+        // Arrange
+        EmployeeBatchLoader loader = new EmployeeBatchLoader(upstreamReturning(
+                createMockEmployee(ALICE_ID, "Alice", 1000, 30), createMockEmployee(BOB_ID, "Bob", 2000, 40)),
+                Duration.ofMinutes(10), 2);
+
+        // Act
+        Mono<Employee> alice = loader.load(ALICE_ID).cache();
+        alice.subscribe();
+        Employee bob = loader.load(BOB_ID).block(Duration.ofSeconds(5));
+
+        // Assert
+        assertEquals("Bob", bob.getEmployeeName());
+        assertEquals("Alice", alice.block(Duration.ofSeconds(5)).getEmployeeName());
+        assertEquals(1, batchCalls.get());
+    }
+
+    @Test
+    void load_MalformedId_CompletesEmptyWithoutCallingUpstream() {
+        // Arrange
+        EmployeeBatchLoader loader = new EmployeeBatchLoader(upstreamReturning(), Duration.ofMillis(5), 100);
+
+        // Act & Assert
+        assertNull(loader.load("not-a-uuid").block(Duration.ofSeconds(5)));
+        assertEquals(0, batchCalls.get());
+    }
+
+    private WebClient upstreamReturning(Employee... employees) {
+        EmployeeListResponseDTO response = new EmployeeListResponseDTO();
+        response.setStatus("Successfully processed request.");
+        response.setData(Arrays.asList(employees));
+        return WebClient.builder().exchangeFunction(request -> {
+            batchCalls.incrementAndGet();
+            try {
+                return Mono.just(ClientResponse.create(HttpStatus.OK)
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .body(new ObjectMapper().writeValueAsString(response)).build());
+            } catch (Exception e) {
+                return Mono.error(e);
+            }
+        }).build();
+    }
+}
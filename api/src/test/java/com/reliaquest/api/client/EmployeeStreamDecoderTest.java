@@ -0,0 +1,65 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.dtos.Employee;
+import com.reliaquest.api.dtos.EmployeeListResponseDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static com.reliaquest.api.util.TestDataUtil.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeStreamDecoderTest {
+
+    private final EmployeeStreamDecoder decoder = new EmployeeStreamDecoder(new ObjectMapper());
+
+    @Test
+    void decode_ChunkedEnvelope_EmitsEachEmployee() {
+        // Arrange
+        EmployeeListResponseDTO response = new EmployeeListResponseDTO();
+        response.setStatus("Successfully processed request.");
+        response.setData(createMockEmployeeListWithMultipleEmployees());
+
+        // Act
+        List<Employee> result = decoder.decode(toResponseBody(response)).collectList().block();
+
+        // Assert
+        assertNotNull(result);
+        assertEquals(5, result.size());
+        assertEquals("John Doe", result.get(0).getEmployeeName());
+        assertEquals(95000, result.get(3).getEmployeeSalary());
+        assertEquals("Charlie Wilson", result.get(4).getEmployeeName());
+    }
+
+    @Test
+    void decode_OtherFieldsInEnvelope_OnlyEmitsTopLevelDataElements() {
+        // Arrange
+        String json = "{\"status\":\"ok\",\"meta\":{\"data\":[{\"employee_name\":\"Ignored\"}]},"
+                + "\"data\":[{\"id\":\"1\",\"employee_name\":\"John Doe\",\"employee_salary\":75000}]}";
+
+        // Act
+        List<Employee> result = decoder.decode(Flux.just(buffer(json))).collectList().block();
+
+        // Assert
+        assertNotNull(result);
+        assertEquals(1, result.size());
+        assertEquals("John Doe", result.get(0).getEmployeeName());
+    }
+
+    @Test
+    void decode_EmptyData_EmitsNothing() {
+        List<Employee> result = decoder.decode(Flux.just(buffer("{\"data\":[],\"status\":\"ok\"}"))).collectList().block();
+
+        assertNotNull(result);
+        assertTrue(result.isEmpty());
+    }
+
+    private static DataBuffer buffer(String json) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
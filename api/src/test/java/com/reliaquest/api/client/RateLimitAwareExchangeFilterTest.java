@@ -0,0 +1,125 @@
+package com.reliaquest.api.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitAwareExchangeFilterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final ClientRequest request = ClientRequest.create(HttpMethod.GET, URI.create("http://localhost/employee")).build();
+
+    @Test
+    void filter_SuccessfulResponses_PassThroughWithinBudget() {
+        // Arrange
+        RateLimitAwareExchangeFilter filter = newFilter(5);
+        AtomicInteger sent = new AtomicInteger();
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            ClientResponse response = filter.filter(request, req -> {
+                sent.incrementAndGet();
+                return Mono.just(ClientResponse.create(HttpStatus.OK).build());
+            }).block();
+            assertEquals(HttpStatus.OK, response.statusCode());
+        }
+
+        // Assert
+        assertEquals(5, sent.get());
+        assertEquals(5, filter.getLearnedLimit());
+    }
+
+    @Test
+    void filter_Throttled_LearnsLimitAndFailsFastWhenLockoutExceedsMaxWait() {
+        // Arrange
+        RateLimitAwareExchangeFilter filter = newFilter(10);
+        AtomicInteger sent = new AtomicInteger();
+
+        // Act - upstream allows three calls, then locks us out
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> {
+            for (int i = 0; i < 5; i++) {
+                filter.filter(request, req -> Mono.just(ClientResponse
+                        .create(sent.incrementAndGet() <= 3 ? HttpStatus.OK : HttpStatus.TOO_MANY_REQUESTS)
+                        .build())).block();
+            }
+        });
+
+        // Assert
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, exception.getStatusCode());
+        assertEquals(3, filter.getLearnedLimit());
+        assertEquals(4, sent.get()); // the retry was not sent into the lockout
+    }
+
+    @Test
+    void filter_RetryAfterHeader_OverridesLearnedWindow() {
+        // Arrange
+        RateLimitAwareExchangeFilter filter = newFilter(10);
+
+        // Act
+        assertThrows(ResponseStatusException.class, () -> filter.filter(request, req -> Mono.just(ClientResponse
+                .create(HttpStatus.TOO_MANY_REQUESTS).header("Retry-After", "120").build())).block());
+
+        // Assert - still locked out on the next call, without touching upstream
+        AtomicInteger sent = new AtomicInteger();
+        assertThrows(ResponseStatusException.class, () -> filter.filter(request, req -> {
+            sent.incrementAndGet();
+            return Mono.just(ClientResponse.create(HttpStatus.OK).build());
+        }).block());
+        assertEquals(0, sent.get());
+    }
+
+    @Test
+    void filter_WaitForPermit_PacesRequestsBeyondMaxWaitInsteadOfFailing() {
+        // Arrange - two requests per 100 ms on the real clock, and a max-wait that only the first two fit in
+        RateLimitAwareExchangeFilter filter = new RateLimitAwareExchangeFilter(2, Duration.ofMillis(100),
+                Duration.ofMillis(1), 2, Duration.ofMillis(1), new SimpleMeterRegistry());
+        ClientRequest paced = ClientRequest.from(request)
+                .attribute(RateLimitAwareExchangeFilter.WAIT_FOR_PERMIT_ATTRIBUTE, true).build();
+        AtomicInteger sent = new AtomicInteger();
+
+        // Act
+        Long succeeded = Flux.range(0, 8)
+                .flatMap(i -> filter.filter(paced, req -> {
+                    sent.incrementAndGet();
+                    return Mono.just(ClientResponse.create(HttpStatus.OK).build());
+                }), 4)
+                .filter(response -> response.statusCode().is2xxSuccessful())
+                .count()
+                .block(Duration.ofSeconds(10));
+
+        // Assert
+        assertEquals(8, succeeded);
+        assertEquals(8, sent.get());
+    }
+
+    @Test
+    void filter_WithoutWaitForPermit_SameLoadFailsFast() {
+        // Arrange
+        RateLimitAwareExchangeFilter filter = new RateLimitAwareExchangeFilter(2, Duration.ofMillis(100),
+                Duration.ofMillis(1), 2, Duration.ofMillis(1), new SimpleMeterRegistry());
+
+        // Act & Assert
+        assertThrows(ResponseStatusException.class, () -> Flux.range(0, 8)
+                .flatMap(i -> filter.filter(request, req -> Mono.just(ClientResponse.create(HttpStatus.OK).build())), 4)
+                .blockLast(Duration.ofSeconds(10)));
+    }
+
+    private RateLimitAwareExchangeFilter newFilter(int initialLimit) {
+        return new RateLimitAwareExchangeFilter(initialLimit, Duration.ofSeconds(30), Duration.ofSeconds(1), 2,
+                Duration.ofMillis(1), new SimpleMeterRegistry(), clock::get);
+    }
+}
@@ -0,0 +1,69 @@
+package com.reliaquest.api.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UpstreamRequestCoalescerTest {
+
+    private final UpstreamRequestCoalescer coalescer = new UpstreamRequestCoalescer(new SimpleMeterRegistry());
+
+    @Test
+    void execute_ConcurrentCallersForSameKey_ShareOneCall() {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+        Sinks.One<String> upstream = Sinks.one();
+        AtomicInteger results = new AtomicInteger();
+
+        // Act - both callers subscribe while the first call is still in flight
+        coalescer.execute("/employee", () -> {
+            calls.incrementAndGet();
+            return upstream.asMono();
+        }).subscribe(value -> results.incrementAndGet());
+        coalescer.execute("/employee", () -> {
+            calls.incrementAndGet();
+            return upstream.asMono();
+        }).subscribe(value -> results.incrementAndGet());
+        upstream.tryEmitValue("roster");
+
+        // Assert
+        assertEquals(1, calls.get());
+        assertEquals(2, results.get());
+        assertEquals(1, coalescer.getExecutedCount());
+        assertEquals(1, coalescer.getCoalescedCount());
+    }
+
+    @Test
+    void execute_AfterCompletion_IssuesNewCall() {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+
+        // Act
+        coalescer.execute("/employee/1", () -> Mono.fromCallable(calls::incrementAndGet)).block();
+        coalescer.execute("/employee/1", () -> Mono.fromCallable(calls::incrementAndGet)).block();
+
+        // Assert
+        assertEquals(2, calls.get());
+        assertEquals(0, coalescer.getCoalescedCount());
+    }
+
+    @Test
+    void execute_DifferentKeys_AreNotCoalesced() {
+        // Arrange
+        Sinks.One<String> first = Sinks.one();
+        Sinks.One<String> second = Sinks.one();
+
+        // Act
+        coalescer.execute("/employee/1", first::asMono).subscribe();
+        coalescer.execute("/employee/2", second::asMono).subscribe();
+
+        // Assert
+        assertEquals(2, coalescer.getExecutedCount());
+        assertEquals(0, coalescer.getCoalescedCount());
+    }
+}
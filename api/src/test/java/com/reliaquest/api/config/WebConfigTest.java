@@ -0,0 +1,25 @@
+package com.reliaquest.api.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WebConfigTest {
+
+    @Test
+    void upstreamUriTag_CollapsesEmployeeIds() {
+        assertEquals("/api/v1/employee/{id}",
+                WebConfig.upstreamUriTag("/api/v1/employee/4a3a170b-22cd-4ac2-aad1-9bb5b34a1507"));
+    }
+
+    @Test
+    void upstreamUriTag_KeepsSubResourcesApart() {
+        assertEquals("/api/v1/employee/batch-get", WebConfig.upstreamUriTag("/api/v1/employee/batch-get"));
+        assertEquals("/api/v1/employee/bulk", WebConfig.upstreamUriTag("/api/v1/employee/bulk"));
+    }
+
+    @Test
+    void upstreamUriTag_KeepsRosterUri() {
+        assertEquals("/api/v1/employee", WebConfig.upstreamUriTag("/api/v1/employee"));
+    }
+}
@@ -1,6 +1,7 @@
 package com.reliaquest.api.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.dtos.BulkCreateResultDTO;
 import com.reliaquest.api.dtos.Employee;
 import com.reliaquest.api.service.impl.EmployeeServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,7 +17,9 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
 
 import java.io.IOException;
 import java.util.Arrays;
@@ -80,6 +83,20 @@ class EmployeeControllerTest {
         verify(employeeService, times(1)).getAllEmployeeList();
     }
 
+    @Test
+    void streamAllEmployees_ReturnsServiceStream() {
+        // Arrange
+        List<Employee> mockEmployees = createMockEmployeeList();
+        when(employeeService.findAllEmployees()).thenReturn(Flux.fromIterable(mockEmployees));
+
+        // Act
+        List<Employee> streamed = employeeController.streamAllEmployees().collectList().block();
+
+        // Assert
+        assertEquals(mockEmployees, streamed);
+        verify(employeeService, never()).getAllEmployeeList();
+    }
+
     @Test
     void getEmployeesByNameSearch_Success() {
         // Arrange
@@ -280,7 +297,50 @@ class EmployeeControllerTest {
         verify(employeeService, times(1)).deleteEmployee(employeeId);
     }
 
+    @Test
+    void createEmployees_ValidBatch_StreamsServiceResults() {
+        // Arrange
+        ReflectionTestUtils.setField(employeeController, "maxBulkCreateItems", 10);
+        List<Map<String, Object>> inputs = Arrays.asList(validEmployeeInput("Ann"), validEmployeeInput("Ben"));
+        when(employeeService.createAll(inputs)).thenReturn(Flux.just(
+                BulkCreateResultDTO.created(1, Map.of("employee_name", "Ben")),
+                BulkCreateResultDTO.failed(0, "429 TOO_MANY_REQUESTS")));
+
+        // Act
+        List<BulkCreateResultDTO> results = employeeController.createEmployees(inputs).collectList().block();
+
+        // Assert
+        assertEquals(2, results.size());
+        assertEquals(BulkCreateResultDTO.STATUS_CREATED, results.get(0).getStatus());
+        assertEquals(0, results.get(1).getIndex());
+    }
+
+    @Test
+    void createEmployees_InvalidItem_RejectsWholeBatch() {
+        // Arrange
+        ReflectionTestUtils.setField(employeeController, "maxBulkCreateItems", 10);
+        Map<String, Object> invalid = validEmployeeInput("Ben");
+        invalid.put("age", 12);
+        List<Map<String, Object>> inputs = Arrays.asList(validEmployeeInput("Ann"), invalid);
+
+        // Act & Assert
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> employeeController.createEmployees(inputs));
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        assertEquals("Item 1: Age must be between 16 and 75", exception.getReason());
+        verify(employeeService, never()).createAll(any());
+    }
+
     // Helper methods
+    private Map<String, Object> validEmployeeInput(String name) {
+        Map<String, Object> employeeInput = new HashMap<>();
+        employeeInput.put("name", name);
+        employeeInput.put("salary", 75000);
+        employeeInput.put("age", 30);
+        employeeInput.put("title", "Engineer");
+        return employeeInput;
+    }
+
     private Employee createMockEmployee() {
         Employee employee = new Employee();
         employee.setId("1");
@@ -1,27 +1,41 @@
 package com.reliaquest.api.service;
 
+import com.reliaquest.api.cache.EmployeeNameLookup;
+import com.reliaquest.api.cache.EmployeeRosterCache;
+import com.reliaquest.api.client.EmployeeBatchLoader;
+import com.reliaquest.api.client.EmployeeStreamDecoder;
+import com.reliaquest.api.client.RateLimitAwareExchangeFilter;
+import com.reliaquest.api.client.UpstreamRequestCoalescer;
 import com.reliaquest.api.constants.ApiConstants;
+import com.reliaquest.api.dtos.BulkCreateResultDTO;
 import com.reliaquest.api.dtos.DeleteEmployeeByNameDTO;
 import com.reliaquest.api.dtos.Employee;
-import com.reliaquest.api.dtos.EmployeeByIdResponseDTO;
 import com.reliaquest.api.dtos.EmployeeListResponseDTO;
 import com.reliaquest.api.service.impl.EmployeeServiceImpl;
 import com.reliaquest.api.util.TestDataUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.web.reactive.function.BodyInserter;
+import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.reliaquest.api.util.TestDataUtil.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -56,6 +70,28 @@ class EmployeeServiceImplTest {
     @Mock
     private WebClient.ResponseSpec responseSpec;
 
+    @Mock
+    private EmployeeBatchLoader employeeBatchLoader;
+
+    @Spy
+    private EmployeeRosterCache rosterCache = new EmployeeRosterCache(Duration.ofSeconds(30));
+
+    @Spy
+    private EmployeeNameLookup employeeNameLookup = new EmployeeNameLookup(new SimpleMeterRegistry(), 1000);
+
+    @Spy
+    private UpstreamRequestCoalescer requestCoalescer = new UpstreamRequestCoalescer(new SimpleMeterRegistry());
+
+    @Spy
+    private EmployeeStreamDecoder employeeStreamDecoder = new EmployeeStreamDecoder(new ObjectMapper());
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Spy
+    private RateLimitAwareExchangeFilter rateLimitAwareExchangeFilter = new RateLimitAwareExchangeFilter(5,
+            Duration.ofSeconds(30), Duration.ofSeconds(10), 3, Duration.ofMillis(500), new SimpleMeterRegistry());
+
     @InjectMocks
     private EmployeeServiceImpl employeeService;
 
@@ -76,7 +112,7 @@ class EmployeeServiceImplTest {
         when(webClient.get()).thenReturn(requestHeadersUriSpec);
         when(requestHeadersUriSpec.uri(ApiConstants.REST_API_URI_GET_ALL_EMPLOYEES)).thenReturn(requestHeadersSpec);
         when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.bodyToMono(EmployeeListResponseDTO.class)).thenReturn(Mono.just(responseDTO));
+        when(responseSpec.bodyToFlux(DataBuffer.class)).thenReturn(toResponseBody(responseDTO));
 
         // Act
         List<Employee> result = employeeService.getAllEmployeeList();
@@ -94,14 +130,7 @@ class EmployeeServiceImplTest {
         // Arrange
         String employeeId = "123";
         Employee mockEmployee = createMockEmployee();
-        EmployeeByIdResponseDTO responseDTO = new EmployeeByIdResponseDTO();
-        responseDTO.setStatus("success");
-        responseDTO.setData(mockEmployee);
-
-        when(webClient.get()).thenReturn(requestHeadersUriSpec);
-        when(requestHeadersUriSpec.uri(ApiConstants.REST_API_URI_GET_EMPLOYEE_BY_ID + employeeId)).thenReturn(requestHeadersSpec);
-        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.bodyToMono(EmployeeByIdResponseDTO.class)).thenReturn(Mono.just(responseDTO));
+        when(employeeBatchLoader.load(employeeId)).thenReturn(Mono.just(mockEmployee));
 
         // Act
         Employee result = employeeService.getEmployeeById(employeeId);
@@ -110,7 +139,7 @@ class EmployeeServiceImplTest {
         assertNotNull(result);
         assertEquals("John Doe", result.getEmployeeName());
         assertEquals("75000", result.getEmployeeSalary());
-        verify(webClient).get();
+        verify(employeeBatchLoader).load(employeeId);
     }
 
     @Test
@@ -125,7 +154,7 @@ class EmployeeServiceImplTest {
         when(webClient.get()).thenReturn(requestHeadersUriSpec);
         when(requestHeadersUriSpec.uri(ApiConstants.REST_API_URI_GET_ALL_EMPLOYEES)).thenReturn(requestHeadersSpec);
         when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.bodyToMono(EmployeeListResponseDTO.class)).thenReturn(Mono.just(responseDTO));
+        when(responseSpec.bodyToFlux(DataBuffer.class)).thenReturn(toResponseBody(responseDTO));
 
         // Act
         List<Employee> result = employeeService.getEmployeeBySearchName(searchString);
@@ -149,7 +178,7 @@ class EmployeeServiceImplTest {
         when(webClient.get()).thenReturn(requestHeadersUriSpec);
         when(requestHeadersUriSpec.uri(ApiConstants.REST_API_URI_GET_ALL_EMPLOYEES)).thenReturn(requestHeadersSpec);
         when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.bodyToMono(EmployeeListResponseDTO.class)).thenReturn(Mono.just(responseDTO));
+        when(responseSpec.bodyToFlux(DataBuffer.class)).thenReturn(toResponseBody(responseDTO));
 
         // Act
         List<Employee> result = employeeService.getEmployeeBySearchName(searchString);
@@ -172,7 +201,7 @@ class EmployeeServiceImplTest {
         when(webClient.get()).thenReturn(requestHeadersUriSpec);
         when(requestHeadersUriSpec.uri(ApiConstants.REST_API_URI_GET_ALL_EMPLOYEES)).thenReturn(requestHeadersSpec);
         when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.bodyToMono(EmployeeListResponseDTO.class)).thenReturn(Mono.just(responseDTO));
+        when(responseSpec.bodyToFlux(DataBuffer.class)).thenReturn(toResponseBody(responseDTO));
 
         // Act
         List<Employee> result = employeeService.getEmployeeBySearchName(searchString);
@@ -193,7 +222,7 @@ class EmployeeServiceImplTest {
         when(webClient.get()).thenReturn(requestHeadersUriSpec);
         when(requestHeadersUriSpec.uri(ApiConstants.REST_API_URI_GET_ALL_EMPLOYEES)).thenReturn(requestHeadersSpec);
         when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.bodyToMono(EmployeeListResponseDTO.class)).thenReturn(Mono.just(responseDTO));
+        when(responseSpec.bodyToFlux(DataBuffer.class)).thenReturn(toResponseBody(responseDTO));
 
         // Act
         Integer result = employeeService.getHighestSalaryOfEmployee();
@@ -215,7 +244,7 @@ class EmployeeServiceImplTest {
         when(webClient.get()).thenReturn(requestHeadersUriSpec);
         when(requestHeadersUriSpec.uri(ApiConstants.REST_API_URI_GET_ALL_EMPLOYEES)).thenReturn(requestHeadersSpec);
         when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.bodyToMono(EmployeeListResponseDTO.class)).thenReturn(Mono.just(responseDTO));
+        when(responseSpec.bodyToFlux(DataBuffer.class)).thenReturn(toResponseBody(responseDTO));
 
         // Act
         List<String> result = employeeService.getTopTenHighestEarningEmployeeNames();
@@ -223,8 +252,8 @@ class EmployeeServiceImplTest {
         // Assert
         assertNotNull(result);
         assertTrue(result.size() <= 10);
-        assertEquals("Bob Johnson", result.get(0)); // Highest salary
-        assertEquals("Jane Smith", result.get(1));  // Second highest
+        assertEquals("Alice Brown", result.get(0)); // Highest salary
+        assertEquals("Bob Johnson", result.get(1));  // Second highest
         verify(webClient).get();
     }
 
@@ -250,24 +279,105 @@ class EmployeeServiceImplTest {
         assertEquals(mockResponse, result);
     }
 
+    @Test
+    void createEmployee_UpdatesCachedSalaryAggregates() {
+        // Arrange
+        rosterCache.publish(createMockEmployeeList());
+        Map<String, Object> created = new HashMap<>();
+        created.put("id", "99");
+        created.put("employee_name", "New Hire");
+        created.put("employee_salary", 120000);
+        created.put("employee_age", 40);
+        Map<String, Object> mockResponse = new HashMap<>();
+        mockResponse.put("status", "Successfully processed request.");
+        mockResponse.put("data", created);
+
+        when(webClient.post()).thenReturn(requestBodyUriSpec);
+        when(requestBodyUriSpec.uri(anyString())).thenReturn(requestBodySpec);
+        when(requestBodySpec.header(anyString(), anyString())).thenReturn(requestBodySpec);
+        when(requestBodySpec.body(any(BodyInserter.class))).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.bodyToMono(any(Class.class))).thenReturn(Mono.just(mockResponse));
+
+        // Act
+        employeeService.createEmployee(createEmployeeInputMap());
+
+        // Assert
+        assertEquals(120000, employeeService.getHighestSalaryOfEmployee());
+        assertEquals("New Hire", employeeService.getTopTenHighestEarningEmployeeNames().get(0));
+        verify(webClient, never()).get();
+    }
+
+    @Test
+    void createAll_ReportsEachItemWithoutStoppingOnFailure() {
+        // Arrange
+        Map<String, Object> created = new HashMap<>();
+        created.put("id", "99");
+        created.put("employee_name", "John Doe");
+        Map<String, Object> mockResponse = new HashMap<>();
+        mockResponse.put("data", created);
+
+        when(webClient.post()).thenReturn(requestBodyUriSpec);
+        when(requestBodyUriSpec.uri(anyString())).thenReturn(requestBodySpec);
+        when(requestBodySpec.attribute(RateLimitAwareExchangeFilter.WAIT_FOR_PERMIT_ATTRIBUTE, true))
+                .thenReturn(requestBodySpec);
+        when(requestBodySpec.header(anyString(), anyString())).thenReturn(requestBodySpec);
+        when(requestBodySpec.body(any(BodyInserter.class))).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.bodyToMono(any(Class.class)))
+                .thenReturn(Mono.error(new RuntimeException("upstream unavailable")), Mono.just(mockResponse));
+
+        // Act
+        List<BulkCreateResultDTO> results = employeeService
+                .createAll(Arrays.asList(createEmployeeInputMap(), createEmployeeInputMap())).collectList().block();
+
+        // Assert
+        assertEquals(2, results.size());
+        assertEquals(BulkCreateResultDTO.STATUS_FAILED, results.get(0).getStatus());
+        assertEquals("upstream unavailable", results.get(0).getError());
+        assertEquals(BulkCreateResultDTO.STATUS_CREATED, results.get(1).getStatus());
+        assertEquals(1, results.get(1).getIndex());
+        assertEquals(created, results.get(1).getEmployee());
+    }
+
+    @Test
+    void createAll_MoreItemsThanUpstreamBudget_PacesEveryCreateInsteadOfFailing() {
+        // Arrange - two creates per 100 ms, and a max-wait that only the first two fit in
+        RateLimitAwareExchangeFilter limiter = new RateLimitAwareExchangeFilter(2, Duration.ofMillis(100),
+                Duration.ofMillis(1), 3, Duration.ofMillis(1), new SimpleMeterRegistry());
+        AtomicInteger sent = new AtomicInteger();
+        employeeService.webClient = WebClient.builder().filter(limiter)
+                .exchangeFunction(request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .body("{\"data\":{\"id\":\"" + sent.incrementAndGet() + "\",\"employee_name\":\"New Hire\"}}")
+                        .build()))
+                .build();
+        List<Map<String, Object>> inputs = Collections.nCopies(10, createEmployeeInputMap());
+
+        // Act
+        List<BulkCreateResultDTO> results = employeeService.createAll(inputs).collectList()
+                .block(Duration.ofSeconds(10));
+
+        // Assert
+        assertEquals(10, results.size());
+        for (BulkCreateResultDTO result : results) {
+            assertEquals(BulkCreateResultDTO.STATUS_CREATED, result.getStatus(), "item " + result.getIndex());
+        }
+        assertEquals(10, sent.get());
+    }
+
     @Test
     void deleteEmployee_Success() {
         // Arrange
         String employeeId = "123";
         Employee mockEmployee = createMockEmployee();
-        EmployeeByIdResponseDTO getResponseDTO = new EmployeeByIdResponseDTO();
-        getResponseDTO.setStatus("success");
-        getResponseDTO.setData(mockEmployee);
 
         Map<String, Object> deleteResponse = new HashMap<>();
         deleteResponse.put("status", "success");
         deleteResponse.put("message", "Employee deleted successfully");
 
-        // Mock GET request for employee by ID
-        when(webClient.get()).thenReturn(requestHeadersUriSpec);
-        when(requestHeadersUriSpec.uri(ApiConstants.REST_API_URI_GET_EMPLOYEE_BY_ID + employeeId)).thenReturn(requestHeadersSpec);
-        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.bodyToMono(EmployeeByIdResponseDTO.class)).thenReturn(Mono.just(getResponseDTO));
+        // Mock lookup of the employee by ID
+        when(employeeBatchLoader.load(employeeId)).thenReturn(Mono.just(mockEmployee));
 
         // Mock DELETE request
         WebClient.RequestBodySpec deleteRequestBodySpec = mock(WebClient.RequestBodySpec.class);
@@ -295,7 +405,7 @@ class EmployeeServiceImplTest {
         // Assert
         assertNotNull(result);
         assertEquals(deleteResponse, result);
-        verify(webClient).get(); // Verify GET call for employee details
+        verify(employeeBatchLoader).load(employeeId); // Verify lookup of employee details
         verify(webClient).method(HttpMethod.DELETE); // Verify DELETE call
     }
 
@@ -304,10 +414,7 @@ class EmployeeServiceImplTest {
         // Arrange
         String employeeId = "123";
 
-        when(webClient.get()).thenReturn(requestHeadersUriSpec);
-        when(requestHeadersUriSpec.uri(ApiConstants.REST_API_URI_GET_EMPLOYEE_BY_ID + employeeId)).thenReturn(requestHeadersSpec);
-        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.bodyToMono(EmployeeByIdResponseDTO.class)).thenReturn(Mono.just(new EmployeeByIdResponseDTO()));
+        when(employeeBatchLoader.load(employeeId)).thenReturn(Mono.empty());
 
         // Act & Assert
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
@@ -315,8 +422,71 @@ class EmployeeServiceImplTest {
         });
 
         assertEquals("Employee not found with ID: " + employeeId, exception.getMessage());
-        verify(webClient).get();
+        verify(employeeBatchLoader).load(employeeId);
         verify(webClient, never()).method(HttpMethod.DELETE);
     }
 
-}
\ No newline at end of file
+    @Test
+    void deleteEmployee_KnownId_SkipsLookupRoundTrip() {
+        // Arrange
+        String employeeId = "1";
+        employeeNameLookup.remember(createMockEmployee());
+        Map<String, Object> deleteResponse = new HashMap<>();
+        deleteResponse.put("status", "Successfully processed request.");
+        deleteResponse.put("data", true);
+
+        WebClient.RequestBodySpec deleteRequestBodySpec = mock(WebClient.RequestBodySpec.class);
+        WebClient.ResponseSpec deleteResponseSpec = mock(WebClient.ResponseSpec.class);
+        when(webClient.method(HttpMethod.DELETE)).thenReturn(deleteRequestBodyUriSpec);
+        when(deleteRequestBodyUriSpec.uri(eq(ApiConstants.REST_API_URI_DELETE_EMPLOYEE)))
+                .thenReturn(deleteRequestBodySpec);
+        when(deleteRequestBodySpec.header(eq(HttpHeaders.CONTENT_TYPE), eq(MediaType.APPLICATION_JSON_VALUE)))
+                .thenReturn(deleteRequestBodySpec);
+        ArgumentCaptor<DeleteEmployeeByNameDTO> deleteInput = ArgumentCaptor.forClass(DeleteEmployeeByNameDTO.class);
+        when(deleteRequestBodySpec.bodyValue(deleteInput.capture())).thenReturn(deleteRequestHeadersSpec);
+        when(deleteRequestHeadersSpec.retrieve()).thenReturn(deleteResponseSpec);
+        when(deleteResponseSpec.bodyToMono(Object.class)).thenReturn(Mono.just(deleteResponse));
+
+        // Act
+        Object result = employeeService.deleteEmployee(employeeId);
+
+        // Assert
+        assertEquals(deleteResponse, result);
+        assertEquals("John Doe", deleteInput.getValue().getName());
+        verify(employeeBatchLoader, never()).load(anyString());
+        assertEquals(1, employeeNameLookup.getHitCount());
+        assertFalse(employeeNameLookup.findName(employeeId, rosterCache.getCurrentSnapshot()).isPresent());
+    }
+
+    @Test
+    void deleteEmployee_UnknownId_FetchesEmployeeFirst() {
+        // Arrange
+        String employeeId = "123";
+        when(employeeBatchLoader.load(employeeId)).thenReturn(Mono.empty());
+
+        // Act
+        assertThrows(RuntimeException.class, () -> employeeService.deleteEmployee(employeeId));
+
+        // Assert
+        assertEquals(1, employeeNameLookup.getMissCount());
+        assertEquals(0, employeeNameLookup.getHitCount());
+    }
+
+    @Test
+    void deleteEmployee_RememberedIdMissingFromSnapshot_FetchesEmployeeFirst() {
+        // Arrange
+        String employeeId = "1";
+        employeeNameLookup.remember(createMockEmployee());
+        // deleted behind the api's back; only a namesake is left
+        rosterCache.publish(List.of(createMockEmployee("2", "John Doe", 50000, 30)));
+        when(employeeBatchLoader.load(employeeId)).thenReturn(Mono.empty());
+
+        // Act
+        assertThrows(RuntimeException.class, () -> employeeService.deleteEmployee(employeeId));
+
+        // Assert
+        verify(employeeBatchLoader).load(employeeId);
+        verify(webClient, never()).method(HttpMethod.DELETE);
+        assertEquals(1, employeeNameLookup.getMissCount());
+    }
+}
@@ -1,7 +1,14 @@
 package com.reliaquest.api.util;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.reliaquest.api.dtos.Employee;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -71,4 +78,22 @@ public class TestDataUtil {
         employeeInput.put("age", age);
         return employeeInput;
     }
-}
\ No newline at end of file
+
+    /**
+     * Serializes an upstream response the way the mock server would send it, split into small chunks so that
+     * decoders are exercised across buffer boundaries.
+     */
+    public static Flux<DataBuffer> toResponseBody(Object response) {
+        try {
+            byte[] json = new ObjectMapper().writeValueAsString(response).getBytes(StandardCharsets.UTF_8);
+            List<DataBuffer> chunks = new ArrayList<>();
+            for (int offset = 0; offset < json.length; offset += 16) {
+                chunks.add(DefaultDataBufferFactory.sharedInstance
+                        .wrap(Arrays.copyOfRange(json, offset, Math.min(offset + 16, json.length))));
+            }
+            return Flux.fromIterable(chunks);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
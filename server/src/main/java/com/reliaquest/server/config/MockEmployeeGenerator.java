@@ -0,0 +1,107 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.List;
+import java.util.Locale;
+import java.util.OptionalInt;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import net.datafaker.Faker;
+
+/**
+ * Builds mock employee number {@code ordinal} from the seed and the ordinal alone, so a roster comes out the same on
+ * every run no matter how many threads generate it.
+ *
+ * <p>{@link Faker} is not thread-safe, so every thread gets its own instance over its own {@link Random}, which is
+ * reseeded before each employee.
+ */
+public class MockEmployeeGenerator {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final long seed;
+
+    private final ThreadLocal<SeededFaker> fakers;
+
+    public MockEmployeeGenerator(long seed, Locale locale) {
+        this.seed = seed;
+        this.fakers = ThreadLocal.withInitial(() -> {
+            final var random = new Random();
+            return new SeededFaker(random, new Faker(locale, random));
+        });
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public MockEmployee generate(int ordinal) {
+        final var faker = reseed(ordinal);
+        return MockEmployee.builder()
+                .id(idOf(ordinal))
+                .name(faker.name().fullName())
+                .salary(faker.number().numberBetween(30000, 500000))
+                .age(faker.number().numberBetween(16, 70))
+                .title(faker.job().title())
+                .email(ServerConfiguration.EMAIL_TEMPLATE.formatted(
+                        faker.twitter().userName().toLowerCase()))
+                .build();
+    }
+
+    /**
+     * The name {@link #generate(int)} gives employee {@code ordinal}, without building the rest of it.
+     */
+    public String nameOf(int ordinal) {
+        return reseed(ordinal).name().fullName();
+    }
+
+    /**
+     * A version 4 UUID that looks random but carries the ordinal: its low 32 bits are the ordinal XORed with the low 32
+     * bits of the most significant half.
+     */
+    public UUID idOf(int ordinal) {
+        final var bits = mix(seed ^ ~((ordinal + 1L) * GOLDEN_GAMMA));
+        final var mostSignificantBits = (bits & ~0xF000L) | 0x4000L;
+        final var leastSignificantBits = (mix(bits) & 0x3FFFFFFF00000000L)
+                | 0x8000000000000000L
+                | ((ordinal ^ mostSignificantBits) & 0xFFFFFFFFL);
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    /**
+     * The ordinal whose {@link #idOf(int)} is {@code id}, if there is one.
+     */
+    public OptionalInt ordinalOf(UUID id) {
+        final var ordinal = (int) (id.getLeastSignificantBits() ^ id.getMostSignificantBits());
+        return ordinal >= 0 && idOf(ordinal).equals(id) ? OptionalInt.of(ordinal) : OptionalInt.empty();
+    }
+
+    /**
+     * Employees {@code fromOrdinal} (inclusive) to {@code toOrdinal} (exclusive), generated in parallel and returned in
+     * ordinal order.
+     */
+    public List<MockEmployee> generate(int fromOrdinal, int toOrdinal) {
+        return IntStream.range(fromOrdinal, toOrdinal)
+                .parallel()
+                .mapToObj(this::generate)
+                .toList();
+    }
+
+    /*
+     * Random turns nearby seeds into correlated first outputs, so consecutive ordinals are spread apart first.
+     */
+    private static long mix(long value) {
+        var mixed = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        mixed = (mixed ^ (mixed >>> 27)) * 0x94D049BB133111EBL;
+        return mixed ^ (mixed >>> 31);
+    }
+
+    private Faker reseed(int ordinal) {
+        final var seeded = fakers.get();
+        seeded.random().setSeed(mix(seed + (ordinal + 1L) * GOLDEN_GAMMA));
+        return seeded.faker();
+    }
+
+    private record SeededFaker(Random random, Faker faker) {}
+}
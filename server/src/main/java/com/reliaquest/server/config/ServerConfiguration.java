@@ -1,59 +1,176 @@
 package com.reliaquest.server.config;
 
 import com.reliaquest.server.model.MockEmployee;
-import com.reliaquest.server.web.RandomRequestLimitInterceptor;
-import java.util.ArrayList;
+import com.reliaquest.server.store.ColumnarEmployeeStore;
+import com.reliaquest.server.store.DurableEmployeeStore;
+import com.reliaquest.server.store.EmployeeStore;
+import com.reliaquest.server.store.GeneratedRoster;
+import com.reliaquest.server.store.LazyEmployeeStore;
+import com.reliaquest.server.store.MappedRoster;
+import com.reliaquest.server.store.SegmentedEmployeeStore;
+import com.reliaquest.server.store.WriteAheadLog;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Locale;
-import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
 import java.util.stream.IntStream;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
-import net.datafaker.transformations.Field;
-import net.datafaker.transformations.JavaObjectTransformer;
-import net.datafaker.transformations.Schema;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
-import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.util.unit.DataSize;
 
 @Slf4j
 @Configuration
-public class ServerConfiguration implements WebMvcConfigurer {
+public class ServerConfiguration {
 
     public static final String EMAIL_TEMPLATE = "%s@company.com";
 
+    private static final int INITIAL_LOAD_BATCH_SIZE = 10_000;
+
     @Bean
     public Faker faker() {
         return new Faker(Locale.getDefault());
     }
 
     /*
-     * This list is modifiable by design for CRUD operations.
+     * Without a configured seed every start gets a new roster; the chosen seed is logged so that one can be repeated.
+     */
+    @Bean
+    public MockEmployeeGenerator mockEmployeeGenerator(@Value("${mock.employees.seed:#{null}}") Long seed) {
+        final var effectiveSeed = seed != null ? seed : ThreadLocalRandom.current().nextLong();
+        return new MockEmployeeGenerator(effectiveSeed, Locale.getDefault());
+    }
+
+    /*
+     * The roster comes from the snapshot saved by the previous run when there is one, and from the generator otherwise;
+     * either way it is kept in the configured store. With a write-ahead log directory, the log is replayed on top of
+     * that and every later mutation is logged. CRUD operations go through the EmployeeStore.
      */
     @Bean
-    public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
-        final var transformer = new JavaObjectTransformer();
-        final var schema = Schema.of(
-                Field.field("id", UUID::randomUUID),
-                Field.field("name", () -> faker.name().fullName()),
-                Field.field("salary", () -> faker.number().numberBetween(30000, 500000)),
-                Field.field("age", () -> faker.number().numberBetween(16, 70)),
-                Field.field("title", () -> faker.job().title()),
-                Field.field(
-                        "email",
-                        () -> EMAIL_TEMPLATE.formatted(
-                                faker.twitter().userName().toLowerCase())));
-        return IntStream.rangeClosed(1, maxEmployees)
-                .mapToObj(ignored -> (MockEmployee) transformer.apply(MockEmployee.class, schema))
-                .peek(mockEmployee -> log.debug("Created employee: {}", mockEmployee))
-                .collect(Collectors.toCollection(ArrayList::new));
-    }
-
-    @Override
-    public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RandomRequestLimitInterceptor());
+    public EmployeeStore employeeStore(
+            MockEmployeeGenerator generator,
+            @Value("${mock.employees.max:20}") int maxEmployees,
+            @Value("${mock.employees.store:segmented}") String storeType,
+            @Value("${mock.employees.snapshot.path:}") String snapshotPath,
+            @Value("${mock.employees.wal.dir:}") String walDirectory,
+            @Value("${mock.employees.wal.compact-after:64MB}") DataSize compactAfter)
+            throws IOException {
+        final var roster = !snapshotPath.isEmpty() && Files.exists(Path.of(snapshotPath))
+                ? mapRoster(Path.of(snapshotPath))
+                : null;
+        final var store = roster != null
+                ? snapshotStore(roster, Path.of(snapshotPath), storeType)
+                : generatedStore(generator, maxEmployees, storeType);
+        if (walDirectory.isEmpty()) {
+            return store;
+        }
+        if (snapshotPath.isEmpty()) {
+            log.warn("Without mock.employees.snapshot.path the write-ahead log is never compacted, and replaying it "
+                    + "only makes sense over the same roster, so mock.employees.seed should be set");
+        }
+        final var writeAheadLog =
+                WriteAheadLog.open(Path.of(walDirectory), roster != null ? roster.getSequence() : 0, store);
+        return new DurableEmployeeStore(
+                store, writeAheadLog, snapshotPath.isEmpty() ? null : Path.of(snapshotPath), compactAfter.toBytes());
+    }
+
+    /*
+     * Saves the roster, including every create and delete, when the server shuts down, for the next start to load. With a
+     * write-ahead log, the DurableEmployeeStore does this itself when it is closed.
+     */
+    @Bean
+    @ConditionalOnExpression("!'${mock.employees.snapshot.path:}'.isEmpty() and '${mock.employees.wal.dir:}'.isEmpty()")
+    public DisposableBean rosterSnapshotWriter(
+            EmployeeStore employeeStore, @Value("${mock.employees.snapshot.path}") String snapshotPath) {
+        return () -> {
+            final var started = System.nanoTime();
+            final var employees = employeeStore.snapshot();
+            MappedRoster.write(employees, Path.of(snapshotPath));
+            log.info(
+                    "Wrote {} employees to roster snapshot {} in {} ms",
+                    employees.size(),
+                    snapshotPath,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        };
+    }
+
+    private MappedRoster mapRoster(Path snapshotPath) throws IOException {
+        final var started = System.nanoTime();
+        final var roster = MappedRoster.open(snapshotPath);
+        log.info(
+                "Mapped {} employees from roster snapshot {} in {} ms",
+                roster.size(),
+                snapshotPath,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        return roster;
+    }
+
+    /*
+     * segmented keeps one object per employee; columnar keeps primitive columns and suits rosters in the millions; lazy
+     * generates roster employees on read and keeps only the changes. For the first two, initial employees are generated
+     * in parallel and loaded in batches, so the full roster never exists as objects at once.
+     */
+    private EmployeeStore generatedStore(MockEmployeeGenerator generator, int maxEmployees, String storeType) {
+        if ("lazy".equals(storeType)) {
+            log.info("Serving {} lazily generated employees with seed {}", maxEmployees, generator.getSeed());
+            return new LazyEmployeeStore(new GeneratedRoster(generator, maxEmployees));
+        }
+        final var started = System.nanoTime();
+        final var store = load(storeType, maxEmployees, generator::generate);
+        log.info(
+                "Generated {} employees with seed {} into the {} store in {} ms",
+                store.size(),
+                generator.getSeed(),
+                storeType,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        return store;
+    }
+
+    /*
+     * The snapshot fixes the roster, so mock.employees.max and mock.employees.seed no longer shape it. lazy reads it
+     * straight from the mapping; the other stores load it in batches, like a generated roster.
+     */
+    private EmployeeStore snapshotStore(MappedRoster roster, Path snapshotPath, String storeType) {
+        log.warn(
+                "Serving the roster saved in {}: mock.employees.max and mock.employees.seed do not apply until it is "
+                        + "deleted",
+                snapshotPath);
+        if ("lazy".equals(storeType)) {
+            return new LazyEmployeeStore(roster);
+        }
+        final var started = System.nanoTime();
+        final var store = load(storeType, roster.size(), roster::get);
+        log.info(
+                "Loaded {} employees from the roster snapshot into the {} store in {} ms",
+                store.size(),
+                storeType,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        return store;
+    }
+
+    private static EmployeeStore load(String storeType, int count, IntFunction<MockEmployee> employees) {
+        final EmployeeStore store =
+                switch (storeType) {
+                    case "segmented" -> new SegmentedEmployeeStore(List.of());
+                    case "columnar" -> new ColumnarEmployeeStore(List.of());
+                    default -> throw new IllegalArgumentException("Unknown mock.employees.store: " + storeType);
+                };
+        for (int from = 0; from < count; from += INITIAL_LOAD_BATCH_SIZE) {
+            final var batch = IntStream.range(from, Math.min(count, from + INITIAL_LOAD_BATCH_SIZE))
+                    .parallel()
+                    .mapToObj(employees)
+                    .toList();
+            batch.forEach(mockEmployee -> log.trace("Created employee: {}", mockEmployee));
+            store.addAll(batch);
+        }
+        return store;
     }
 }
@@ -0,0 +1,67 @@
+package com.reliaquest.server.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.web.FaultInjectionInterceptor;
+import com.reliaquest.server.web.FaultProfile;
+import com.reliaquest.server.web.RandomRequestLimitInterceptor;
+import com.reliaquest.server.web.TokenBucketRequestLimitInterceptor;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@EnableConfigurationProperties(FaultProfile.class)
+public class WebConfiguration implements WebMvcConfigurer {
+
+    public static final String ADMIN_PATH = "/admin/**";
+
+    public static final String ERROR_PATH = "/error";
+
+    private final HandlerInterceptor requestLimitInterceptor;
+
+    private final FaultProfile faultProfile;
+
+    private final ObjectMapper objectMapper;
+
+    /*
+     * random keeps the original behaviour of a limit and backoff picked at startup; token-bucket limits each client
+     * deterministically and tells it when to come back.
+     */
+    public WebConfiguration(
+            @Value("${mock.rate-limit.mode:random}") String mode,
+            @Value("${mock.rate-limit.capacity:10}") int capacity,
+            @Value("${mock.rate-limit.refill-period:1s}") Duration refillPeriod,
+            @Value("${mock.rate-limit.client-header:}") String clientHeader,
+            FaultProfile faultProfile,
+            ObjectMapper objectMapper) {
+        this.requestLimitInterceptor =
+                switch (mode) {
+                    case "random" -> new RandomRequestLimitInterceptor();
+                    case "token-bucket" -> new TokenBucketRequestLimitInterceptor(
+                            capacity, refillPeriod, clientHeader.isEmpty() ? null : clientHeader);
+                    default -> throw new IllegalArgumentException("Unknown mock.rate-limit.mode: " + mode);
+                };
+        this.faultProfile = faultProfile;
+        this.objectMapper = objectMapper;
+    }
+
+    @Bean
+    public FaultInjectionInterceptor faultInjectionInterceptor() {
+        return new FaultInjectionInterceptor(faultProfile, objectMapper);
+    }
+
+    /*
+     * Requests are limited before any fault is injected. Neither applies to the admin endpoints, nor to the error
+     * dispatch of a request that already went through them.
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(requestLimitInterceptor).excludePathPatterns(ADMIN_PATH, ERROR_PATH);
+        registry.addInterceptor(faultInjectionInterceptor()).excludePathPatterns(ADMIN_PATH, ERROR_PATH);
+    }
+}
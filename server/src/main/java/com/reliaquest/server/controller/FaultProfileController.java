@@ -0,0 +1,53 @@
+package com.reliaquest.server.controller;
+
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.web.FaultInjectionInterceptor;
+import com.reliaquest.server.web.FaultProfile;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/*
+ * Lets a benchmark switch fault profiles without restarting the server. The rate limiter and the faults themselves
+ * leave these endpoints alone.
+ */
+@RestController
+@RequestMapping("/admin/faults")
+@RequiredArgsConstructor
+public class FaultProfileController {
+
+    private final FaultInjectionInterceptor faultInjectionInterceptor;
+
+    @GetMapping()
+    public Response<FaultProfile> getFaultProfile() {
+        return Response.handledWith(faultInjectionInterceptor.getProfile());
+    }
+
+    @PutMapping()
+    public Response<FaultProfile> setFaultProfile(@RequestBody FaultProfile profile) {
+        faultInjectionInterceptor.setProfile(profile);
+        return Response.handledWith(profile);
+    }
+
+    @DeleteMapping()
+    public Response<FaultProfile> clearFaultProfile() {
+        faultInjectionInterceptor.setProfile(FaultProfile.NONE);
+        return Response.handledWith(FaultProfile.NONE);
+    }
+
+    /*
+     * A profile that does not parse or fails validation, such as rates adding up to more than 1, is the caller's
+     * mistake; the current profile stays in place.
+     */
+    @ExceptionHandler
+    protected ResponseEntity<Response<FaultProfile>> handleInvalidProfile(HttpMessageNotReadableException ex) {
+        return ResponseEntity.badRequest().body(Response.error(ex.getMostSpecificCause().getMessage()));
+    }
+}
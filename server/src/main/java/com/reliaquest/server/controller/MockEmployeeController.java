@@ -6,11 +6,15 @@ import com.reliaquest.server.model.MockEmployee;
 import com.reliaquest.server.model.Response;
 import com.reliaquest.server.service.MockEmployeeService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -19,15 +23,26 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+@Validated
 @RestController
 @RequestMapping("/api/v1/employee")
 @RequiredArgsConstructor
 public class MockEmployeeController {
 
+    /**
+     * Largest list the bulk endpoints accept, which keeps one request to one modest write-ahead log entry.
+     */
+    public static final int MAX_BULK_ITEMS = 1000;
+
+    /**
+     * Largest list of ids /batch-get accepts; the api's employee.batch-get.max-batch-size must not exceed it.
+     */
+    public static final int MAX_BATCH_GET_IDS = 100;
+
     private final MockEmployeeService mockEmployeeService;
 
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
+    public Response<Collection<MockEmployee>> getEmployees() {
         return Response.handledWith(mockEmployeeService.getMockEmployees());
     }
 
@@ -39,6 +54,16 @@ public class MockEmployeeController {
                 .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.handled()));
     }
 
+    /*
+     * Multi-get: unknown ids are left out of the response rather than failing the whole batch. More than
+     * MAX_BATCH_GET_IDS ids are rejected.
+     */
+    @PostMapping("/batch-get")
+    public Response<List<MockEmployee>> getEmployees(
+            @NotEmpty @Size(max = MAX_BATCH_GET_IDS) @RequestBody List<UUID> uuids) {
+        return Response.handledWith(mockEmployeeService.findAllById(uuids));
+    }
+
     @PostMapping()
     public Response<MockEmployee> createEmployee(@Valid @RequestBody CreateMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.create(input));
@@ -48,4 +73,20 @@ public class MockEmployeeController {
     public Response<Boolean> deleteEmployee(@Valid @RequestBody DeleteMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.delete(input));
     }
+
+    /*
+     * Bulk variants: the whole list is one request to the rate limiter and one mutation of the store. A list with an
+     * invalid item, or with more than MAX_BULK_ITEMS, is rejected as a whole.
+     */
+    @PostMapping("/bulk")
+    public Response<List<MockEmployee>> createEmployees(
+            @NotEmpty @Size(max = MAX_BULK_ITEMS) @RequestBody List<@Valid CreateMockEmployeeInput> inputs) {
+        return Response.handledWith(mockEmployeeService.createAll(inputs));
+    }
+
+    @DeleteMapping("/bulk")
+    public Response<List<Boolean>> deleteEmployees(
+            @NotEmpty @Size(max = MAX_BULK_ITEMS) @RequestBody List<@Valid DeleteMockEmployeeInput> inputs) {
+        return Response.handledWith(mockEmployeeService.deleteAll(inputs));
+    }
 }
@@ -1,15 +1,41 @@
 package com.reliaquest.server.controller;
 
 import com.reliaquest.server.model.Response;
+import com.reliaquest.server.web.FaultInjectionInterceptor.InjectedResetException;
+import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 
 @Slf4j
 @ControllerAdvice
 public class MockEmployeeControllerAdvice {
 
+    /*
+     * The partial response is already committed; rethrowing leaves the container to abort the connection or stream.
+     */
+    @ExceptionHandler
+    protected void handleInjectedReset(InjectedResetException ex) throws InjectedResetException {
+        throw ex;
+    }
+
+    /*
+     * An invalid input, or a list that is empty or too long, is the caller's mistake, and nothing was changed: a bulk
+     * request with one invalid item is rejected as a whole.
+     */
+    @ExceptionHandler({
+        MethodArgumentNotValidException.class,
+        HandlerMethodValidationException.class,
+        ConstraintViolationException.class
+    })
+    protected ResponseEntity<?> handleInvalidRequest(Exception ex) {
+        log.debug("Rejected invalid web request: {}", ex.getMessage());
+        return ResponseEntity.badRequest().body(Response.error(ex.getMessage()));
+    }
+
     @ExceptionHandler
     protected ResponseEntity<?> handleException(Throwable ex) {
         log.error("Error handling web request.", ex);
@@ -4,11 +4,11 @@ import com.reliaquest.server.config.ServerConfiguration;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.EmployeeStore;
+import java.util.Collection;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,37 +22,73 @@ public class MockEmployeeService {
 
     private final Faker faker;
 
-    @Getter
-    private final List<MockEmployee> mockEmployees;
+    private final EmployeeStore employeeStore;
+
+    /**
+     * Point-in-time view of every employee, iterated without copying.
+     */
+    public Collection<MockEmployee> getMockEmployees() {
+        return employeeStore.snapshot();
+    }
 
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+        return employeeStore.findById(uuid);
+    }
+
+    /**
+     * Unknown ids are skipped; the rest come back in request order.
+     */
+    public List<MockEmployee> findAllById(@NonNull List<UUID> uuids) {
+        return uuids.stream()
+                .distinct()
+                .map(employeeStore::findById)
+                .flatMap(Optional::stream)
+                .toList();
     }
 
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
-        final var mockEmployee = MockEmployee.from(
-                ServerConfiguration.EMAIL_TEMPLATE.formatted(
-                        faker.twitter().userName().toLowerCase()),
-                input);
-        mockEmployees.add(mockEmployee);
+        final var mockEmployee = newMockEmployee(input);
+        employeeStore.add(mockEmployee);
         log.debug("Added employee: {}", mockEmployee);
         return mockEmployee;
     }
 
+    /**
+     * Creates every input as a single store mutation.
+     */
+    public List<MockEmployee> createAll(@NonNull List<CreateMockEmployeeInput> inputs) {
+        final var created = inputs.stream().map(this::newMockEmployee).toList();
+        employeeStore.addAll(created);
+        log.debug("Added {} employees", created.size());
+        return created;
+    }
+
+    /**
+     * Removes the first employee, in insertion order, whose name equals the input ignoring case.
+     */
     public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
-                .findFirst();
-        if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
-            log.debug("Removed employee: {}", mockEmployee.get());
-            return true;
-        }
-
-        return false;
+        final var removed = employeeStore.removeFirstByName(input.getName());
+        removed.ifPresent(employee -> log.debug("Removed employee: {}", employee));
+        return removed.isPresent();
+    }
+
+    /**
+     * Same outcome as calling {@link #delete(DeleteMockEmployeeInput)} for each input in order, as a single store
+     * mutation.
+     *
+     * @return whether each input removed an employee, in input order
+     */
+    public List<Boolean> deleteAll(@NonNull List<DeleteMockEmployeeInput> inputs) {
+        final var removed = employeeStore.removeFirstByNames(
+                inputs.stream().map(DeleteMockEmployeeInput::getName).toList());
+        removed.forEach(employee -> employee.ifPresent(e -> log.debug("Removed employee: {}", e)));
+        return removed.stream().map(Optional::isPresent).toList();
+    }
+
+    private MockEmployee newMockEmployee(CreateMockEmployeeInput input) {
+        return MockEmployee.from(
+                ServerConfiguration.EMAIL_TEMPLATE.formatted(
+                        faker.twitter().userName().toLowerCase()),
+                input);
     }
 }
@@ -0,0 +1,580 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Struct-of-arrays store for rosters with millions of employees.
+ *
+ * <p>Rows are kept in chunks of primitive columns: the UUID as two {@code long}s, salary and age as {@code int}s, the
+ * title as a code into a shared dictionary, and name and email as UTF-8 bytes in one buffer per chunk. A
+ * {@link MockEmployee} is only built when a row is read, so a full listing materializes one employee at a time while it
+ * is serialized.
+ *
+ * <p>Concurrency follows {@link SegmentedEmployeeStore}: one writer at a time, and every write publishes a new
+ * immutable {@link State} with one volatile write. Appends fill the tail chunk in place past the published row count,
+ * which no reader looks at. A delete sets a bit in a copy of its chunk's tombstone words. Once tombstones outnumber
+ * live rows, the store is rebuilt densely.
+ *
+ * <p>A delete by name finds the oldest row with that name through an open-addressing table of {@code long}s, the hash
+ * of a folded name above the first slot holding it, with later slots chained through a column per chunk. It is built
+ * by the first delete by name, so a store that is only read and appended to never pays for it. Only entries whose
+ * hash matches have their name read back from the row.
+ *
+ * <p>Every employee must have an id; the server assigns one to everything it stores.
+ */
+@Slf4j
+public class ColumnarEmployeeStore implements EmployeeStore {
+
+    static final int CHUNK_SHIFT = 14;
+    static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private static final int NO_VALUE = Integer.MIN_VALUE;
+    private static final int NO_SLOT = -1;
+
+    private final Object writeLock = new Object();
+
+    private volatile State state;
+
+    // guarded by writeLock
+    private WriterIndexes indexes;
+
+    public ColumnarEmployeeStore(List<MockEmployee> initialEmployees) {
+        synchronized (writeLock) {
+            indexes = new WriterIndexes();
+            state = append(State.empty(), initialEmployees, indexes);
+        }
+    }
+
+    @Override
+    public Collection<MockEmployee> snapshot() {
+        return new Snapshot(state);
+    }
+
+    @Override
+    public Optional<MockEmployee> findById(UUID id) {
+        final var current = state;
+        final var high = id.getMostSignificantBits();
+        final var low = id.getLeastSignificantBits();
+        final var table = current.idTable;
+        final var mask = table.length - 1;
+        // entries past this state's row count, or for deleted rows, are skipped: the id may appear again further on
+        for (int i = hash(high, low) & mask; table[i] != 0; i = (i + 1) & mask) {
+            final var slot = table[i] - 1;
+            if (slot < current.count && current.isLive(slot)) {
+                final var chunk = current.chunks[slot >>> CHUNK_SHIFT];
+                final var offset = slot & CHUNK_MASK;
+                if (chunk.idHigh()[offset] == high && chunk.idLow()[offset] == low) {
+                    return Optional.of(current.materialize(slot));
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public int size() {
+        return state.size;
+    }
+
+    @Override
+    public void add(MockEmployee employee) {
+        addAll(List.of(employee));
+    }
+
+    @Override
+    public void addAll(List<MockEmployee> employees) {
+        synchronized (writeLock) {
+            state = append(state, employees, indexes);
+        }
+    }
+
+    @Override
+    public Optional<MockEmployee> removeFirstByName(String name) {
+        return removeFirstByNames(List.of(name)).get(0);
+    }
+
+    @Override
+    public List<Optional<MockEmployee>> removeFirstByNames(List<String> names) {
+        synchronized (writeLock) {
+            final var current = state;
+            final var chunks = current.chunks.clone();
+            final var copied = new boolean[chunks.length];
+            final var results = new ArrayList<Optional<MockEmployee>>(names.size());
+            var removed = 0;
+
+            if (!indexes.namesIndexed()) {
+                indexes.indexNames(current);
+            }
+            for (final var name : names) {
+                final var slot = indexes.pollFirstNamed(current.chunks, EmployeeStore.fold(name));
+                if (slot == NO_SLOT) {
+                    results.add(Optional.empty());
+                    continue;
+                }
+                final var chunkIndex = slot >>> CHUNK_SHIFT;
+                if (!copied[chunkIndex]) {
+                    chunks[chunkIndex] = chunks[chunkIndex].withTombstones(
+                            chunks[chunkIndex].tombstones().clone());
+                    copied[chunkIndex] = true;
+                }
+                final var offset = slot & CHUNK_MASK;
+                chunks[chunkIndex].tombstones()[offset >>> 6] |= 1L << offset;
+                results.add(Optional.of(current.materialize(slot)));
+                removed++;
+            }
+
+            if (removed > 0) {
+                final var size = current.size - removed;
+                final var tombstones = current.tombstones + removed;
+                state = new State(chunks, current.count, size, tombstones, current.titles, current.idTable);
+                if (tombstones > Math.max(CHUNK_SIZE, size)) {
+                    compact();
+                }
+            }
+            return results;
+        }
+    }
+
+    /*
+     * Caller holds writeLock. Builds the state with employees appended to base; the caller publishes it.
+     */
+    private static State append(State base, List<MockEmployee> employees, WriterIndexes indexes) {
+        if (employees.isEmpty()) {
+            return base;
+        }
+        // checked up front so a rejected batch leaves the writer indexes untouched
+        employees.forEach(employee -> Objects.requireNonNull(employee.getId(), "Employee id is required"));
+        var chunks = base.chunks;
+        var titles = base.titles;
+        final var idTable = indexes.idTableFor(base, employees.size());
+
+        var slot = base.count;
+        for (final var employee : employees) {
+            final var id = employee.getId();
+            final var chunkIndex = slot >>> CHUNK_SHIFT;
+            final var offset = slot & CHUNK_MASK;
+            if (chunkIndex == chunks.length) {
+                chunks = Arrays.copyOf(chunks, chunkIndex + 1);
+                chunks[chunkIndex] = Chunk.allocate();
+            }
+
+            final var name = encode(employee.getName());
+            final var email = encode(employee.getEmail());
+            var chunk = chunks[chunkIndex];
+            final var start = offset == 0 ? 0 : chunk.textEnd(2 * offset - 1);
+            final var end = start + length(name) + length(email);
+            if (end > chunk.text().length) {
+                if (chunks == base.chunks) {
+                    chunks = chunks.clone();
+                }
+                chunk = chunk.withText(Arrays.copyOf(chunk.text(), Math.max(end, chunk.text().length * 2)));
+                chunks[chunkIndex] = chunk;
+            }
+            chunk.textEnds()[2 * offset] = write(chunk.text(), start, name);
+            chunk.textEnds()[2 * offset + 1] = write(chunk.text(), start + length(name), email);
+
+            chunk.idHigh()[offset] = id.getMostSignificantBits();
+            chunk.idLow()[offset] = id.getLeastSignificantBits();
+            chunk.salaries()[offset] = unbox(employee.getSalary());
+            chunk.ages()[offset] = unbox(employee.getAge());
+            if (employee.getTitle() == null) {
+                chunk.titles()[offset] = NO_VALUE;
+            } else {
+                var code = indexes.titleCodes.get(employee.getTitle());
+                if (code == null) {
+                    code = titles.length;
+                    titles = Arrays.copyOf(titles, code + 1);
+                    titles[code] = employee.getTitle();
+                    indexes.titleCodes.put(employee.getTitle(), code);
+                }
+                chunk.titles()[offset] = code;
+            }
+
+            // written before the state that covers this slot is published, and ignored by the states before it
+            insert(idTable, hash(id.getMostSignificantBits(), id.getLeastSignificantBits()), slot);
+            if (employee.getName() != null && indexes.namesIndexed()) {
+                indexes.appendNamed(chunks, EmployeeStore.fold(employee.getName()), slot);
+            }
+            slot++;
+        }
+        return new State(chunks, slot, base.size + employees.size(), base.tombstones, titles, idTable);
+    }
+
+    /*
+     * Caller holds writeLock. Renumbers every row, so all indexes are rebuilt and published with the new state.
+     */
+    private void compact() {
+        final var current = state;
+        log.debug("Compacting employee store: {} employees, {} tombstones", current.size, current.tombstones);
+        final var rebuiltIndexes = new WriterIndexes();
+        var rebuilt = State.empty();
+        if (indexes.namesIndexed()) {
+            rebuiltIndexes.indexNames(rebuilt);
+        }
+        final var batch = new ArrayList<MockEmployee>(CHUNK_SIZE);
+        for (final var employee : new Snapshot(current)) {
+            batch.add(employee);
+            if (batch.size() == CHUNK_SIZE) {
+                rebuilt = append(rebuilt, batch, rebuiltIndexes);
+                batch.clear();
+            }
+        }
+        state = append(rebuilt, batch, rebuiltIndexes);
+        indexes = rebuiltIndexes;
+    }
+
+    private static int hash(long high, long low) {
+        return (int) (((high ^ low) * 0x9E3779B97F4A7C15L) >>> 32);
+    }
+
+    private static int spread(int hash) {
+        return (int) ((hash * 0x9E3779B97F4A7C15L) >>> 32);
+    }
+
+    private static void insert(int[] table, int hash, int slot) {
+        final var mask = table.length - 1;
+        var i = hash & mask;
+        while (table[i] != 0) {
+            i = (i + 1) & mask;
+        }
+        table[i] = slot + 1;
+    }
+
+    private static byte[] encode(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int length(byte[] bytes) {
+        return bytes == null ? 0 : bytes.length;
+    }
+
+    /*
+     * Returns the end offset to record for the value; a null value is recorded as the complement of its start.
+     */
+    private static int write(byte[] text, int start, byte[] value) {
+        if (value == null) {
+            return ~start;
+        }
+        System.arraycopy(value, 0, text, start, value.length);
+        return start + value.length;
+    }
+
+    private static int unbox(Integer value) {
+        return value == null ? NO_VALUE : value;
+    }
+
+    private static Integer box(int value) {
+        return value == NO_VALUE ? null : value;
+    }
+
+    /**
+     * Up to {@link #CHUNK_SIZE} rows. Columns are shared between the chunk instances of successive states; only the
+     * text buffer (when it grows) and the tombstones (when a row is deleted) are replaced.
+     */
+    private record Chunk(
+            long[] idHigh,
+            long[] idLow,
+            int[] salaries,
+            int[] ages,
+            int[] titles,
+            int[] textEnds,
+            byte[] text,
+            long[] tombstones) {
+
+        private static Chunk allocate() {
+            return new Chunk(
+                    new long[CHUNK_SIZE],
+                    new long[CHUNK_SIZE],
+                    new int[CHUNK_SIZE],
+                    new int[CHUNK_SIZE],
+                    new int[CHUNK_SIZE],
+                    new int[2 * CHUNK_SIZE],
+                    new byte[CHUNK_SIZE * 32],
+                    new long[CHUNK_SIZE >>> 6]);
+        }
+
+        private Chunk withText(byte[] text) {
+            return new Chunk(idHigh, idLow, salaries, ages, titles, textEnds, text, tombstones);
+        }
+
+        private Chunk withTombstones(long[] tombstones) {
+            return new Chunk(idHigh, idLow, salaries, ages, titles, textEnds, text, tombstones);
+        }
+
+        private int textEnd(int index) {
+            final var end = textEnds[index];
+            return end < 0 ? ~end : end;
+        }
+
+        private String textAt(int index) {
+            if (textEnds[index] < 0) {
+                return null;
+            }
+            final var start = index == 0 ? 0 : textEnd(index - 1);
+            return new String(text, start, textEnds[index] - start, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static final class State {
+
+        private final Chunk[] chunks;
+        private final int count;
+        private final int size;
+        private final int tombstones;
+        private final String[] titles;
+        private final int[] idTable;
+
+        private State(Chunk[] chunks, int count, int size, int tombstones, String[] titles, int[] idTable) {
+            this.chunks = chunks;
+            this.count = count;
+            this.size = size;
+            this.tombstones = tombstones;
+            this.titles = titles;
+            this.idTable = idTable;
+        }
+
+        private static State empty() {
+            return new State(new Chunk[0], 0, 0, 0, new String[0], new int[16]);
+        }
+
+        private boolean isLive(int slot) {
+            return (chunks[slot >>> CHUNK_SHIFT].tombstones()[(slot & CHUNK_MASK) >>> 6] & (1L << slot)) == 0;
+        }
+
+        private MockEmployee materialize(int slot) {
+            final var chunk = chunks[slot >>> CHUNK_SHIFT];
+            final var offset = slot & CHUNK_MASK;
+            final var title = chunk.titles()[offset];
+            return MockEmployee.builder()
+                    .id(new UUID(chunk.idHigh()[offset], chunk.idLow()[offset]))
+                    .name(chunk.textAt(2 * offset))
+                    .salary(box(chunk.salaries()[offset]))
+                    .age(box(chunk.ages()[offset]))
+                    .title(title == NO_VALUE ? null : titles[title])
+                    .email(chunk.textAt(2 * offset + 1))
+                    .build();
+        }
+    }
+
+    /*
+     * Indexes only writers use, rebuilt on compaction. The name index is left out until the first delete by name.
+     */
+    private static final class WriterIndexes {
+
+        private final Map<String, Integer> titleCodes = new HashMap<>();
+
+        // open addressing, null until indexed: the hash of a folded name above 1 + the first slot with that name, 0 for
+        // none; the last slot sits at the same position of nameTails, and the rows between are chained through
+        // nextSameName. Names with colliding hashes get separate entries, told apart by the name of their first slot.
+        private long[] nameHeads;
+        private int[] nameTails;
+        private int nameEntries;
+
+        private int[][] nextSameName = new int[0][];
+
+        private int idEntries;
+
+        /*
+         * The id table to append into, keeping it at most three quarters full. A bigger table is filled with the live
+         * rows of base only; states before it keep probing the old one.
+         */
+        private int[] idTableFor(State base, int adding) {
+            if (4L * (idEntries + adding) <= 3L * base.idTable.length) {
+                idEntries += adding;
+                return base.idTable;
+            }
+            final var table = new int[Integer.highestOneBit(Math.max(8, 2 * (base.size + adding) - 1)) << 1];
+            for (int slot = 0; slot < base.count; slot++) {
+                if (base.isLive(slot)) {
+                    final var chunk = base.chunks[slot >>> CHUNK_SHIFT];
+                    final var offset = slot & CHUNK_MASK;
+                    insert(table, hash(chunk.idHigh()[offset], chunk.idLow()[offset]), slot);
+                }
+            }
+            idEntries = base.size + adding;
+            return table;
+        }
+
+        private boolean namesIndexed() {
+            return nameHeads != null;
+        }
+
+        /*
+         * Indexes the names of the live rows of state, oldest first; later appends keep the index up to date.
+         */
+        private void indexNames(State state) {
+            nameHeads = new long[16];
+            nameTails = new int[16];
+            for (int slot = 0; slot < state.count; slot++) {
+                final var name = state.isLive(slot) ? nameOf(state.chunks, slot) : null;
+                if (name != null) {
+                    appendNamed(state.chunks, EmployeeStore.fold(name), slot);
+                }
+            }
+        }
+
+        /*
+         * chunks holds every row up to and including slot.
+         */
+        private void appendNamed(Chunk[] chunks, String folded, int slot) {
+            final var chunkIndex = slot >>> CHUNK_SHIFT;
+            if (chunkIndex >= nextSameName.length) {
+                nextSameName = Arrays.copyOf(nextSameName, chunkIndex + 1);
+            }
+            if (nextSameName[chunkIndex] == null) {
+                nextSameName[chunkIndex] = new int[CHUNK_SIZE];
+            }
+            nextSameName[chunkIndex][slot & CHUNK_MASK] = NO_SLOT;
+            final var hash = folded.hashCode();
+            final var i = findNamed(chunks, folded, hash);
+            if (nameHeads[i] == 0) {
+                nameHeads[i] = nameEntry(hash, slot);
+                nameTails[i] = slot;
+                if (4 * ++nameEntries > 3 * nameHeads.length) {
+                    growNames();
+                }
+            } else {
+                final var last = nameTails[i];
+                nextSameName[last >>> CHUNK_SHIFT][last & CHUNK_MASK] = slot;
+                nameTails[i] = slot;
+            }
+        }
+
+        private int pollFirstNamed(Chunk[] chunks, String folded) {
+            final var hash = folded.hashCode();
+            final var i = findNamed(chunks, folded, hash);
+            if (nameHeads[i] == 0) {
+                return NO_SLOT;
+            }
+            final var first = (int) nameHeads[i] - 1;
+            final var next = nextSameName[first >>> CHUNK_SHIFT][first & CHUNK_MASK];
+            if (next == NO_SLOT) {
+                removeNamedAt(i);
+            } else {
+                nameHeads[i] = nameEntry(hash, next);
+            }
+            return first;
+        }
+
+        /*
+         * The position of the entry for folded, or the empty one where it would go.
+         */
+        private int findNamed(Chunk[] chunks, String folded, int hash) {
+            final var mask = nameHeads.length - 1;
+            var i = spread(hash) & mask;
+            while (nameHeads[i] != 0
+                    && ((int) (nameHeads[i] >>> 32) != hash
+                            || !folded.equals(EmployeeStore.fold(nameOf(chunks, (int) nameHeads[i] - 1))))) {
+                i = (i + 1) & mask;
+            }
+            return i;
+        }
+
+        /*
+         * Shifts later entries of the probe run back into the gap, so no lookup stops short of them.
+         */
+        private void removeNamedAt(int removed) {
+            final var mask = nameHeads.length - 1;
+            var gap = removed;
+            for (int i = (removed + 1) & mask; nameHeads[i] != 0; i = (i + 1) & mask) {
+                final var home = spread((int) (nameHeads[i] >>> 32)) & mask;
+                if (((i - home) & mask) >= ((i - gap) & mask)) {
+                    nameHeads[gap] = nameHeads[i];
+                    nameTails[gap] = nameTails[i];
+                    gap = i;
+                }
+            }
+            nameHeads[gap] = 0;
+            nameEntries--;
+        }
+
+        private void growNames() {
+            final var heads = nameHeads;
+            final var tails = nameTails;
+            nameHeads = new long[heads.length << 1];
+            nameTails = new int[heads.length << 1];
+            final var mask = nameHeads.length - 1;
+            for (int j = 0; j < heads.length; j++) {
+                if (heads[j] != 0) {
+                    var i = spread((int) (heads[j] >>> 32)) & mask;
+                    while (nameHeads[i] != 0) {
+                        i = (i + 1) & mask;
+                    }
+                    nameHeads[i] = heads[j];
+                    nameTails[i] = tails[j];
+                }
+            }
+        }
+
+        private static long nameEntry(int hash, int slot) {
+            return (long) hash << 32 | (slot + 1);
+        }
+
+        private static String nameOf(Chunk[] chunks, int slot) {
+            return chunks[slot >>> CHUNK_SHIFT].textAt(2 * (slot & CHUNK_MASK));
+        }
+    }
+
+    /**
+     * Read-only view of one state. Rows are materialized as the iterator reaches them.
+     */
+    private static final class Snapshot extends AbstractCollection<MockEmployee> {
+
+        private final State state;
+
+        private Snapshot(State state) {
+            this.state = state;
+        }
+
+        @Override
+        public int size() {
+            return state.size;
+        }
+
+        @Override
+        public Iterator<MockEmployee> iterator() {
+            return new Iterator<>() {
+
+                private int slot = advance(0);
+
+                @Override
+                public boolean hasNext() {
+                    return slot < state.count;
+                }
+
+                @Override
+                public MockEmployee next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    final var employee = state.materialize(slot);
+                    slot = advance(slot + 1);
+                    return employee;
+                }
+
+                private int advance(int from) {
+                    var next = from;
+                    while (next < state.count && !state.isLive(next)) {
+                        next++;
+                    }
+                    return next;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Logs every mutation of another store to a {@link WriteAheadLog} and returns only once the entry is durable.
+ *
+ * <p>A mutation is applied and queued for the log under one lock, so the log holds mutations in exactly the order the
+ * store applied them and replaying it rebuilds the same state. Waiting for the fsync happens outside the lock, which
+ * is what lets concurrent writers share one. A mutation is visible to readers slightly before it is durable. It is
+ * encoded before it is applied, so one too large to log leaves the store unchanged.
+ *
+ * <p>Once the log fails, the store holds a mutation the log may not, so it stops: every later read and write throws
+ * {@link UncheckedIOException} and close skips compaction, leaving a restart to replay only what was durable.
+ *
+ * <p>With a snapshot path, the log is compacted in the background once it has grown past a threshold: the current
+ * employees are written to a {@link MappedRoster} tagged with the last sequence they include, and older segments are
+ * deleted. The same happens on close.
+ */
+@Slf4j
+public class DurableEmployeeStore implements EmployeeStore, Closeable {
+
+    private final EmployeeStore delegate;
+
+    private final WriteAheadLog writeAheadLog;
+
+    private final Path snapshotPath;
+
+    private final long compactAfterBytes;
+
+    private final Object writeLock = new Object();
+
+    private final AtomicBoolean compacting = new AtomicBoolean();
+
+    private volatile IOException failure;
+
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        final var thread = new Thread(runnable, "wal-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * @param snapshotPath where compaction writes the roster, or null to never compact
+     */
+    public DurableEmployeeStore(
+            EmployeeStore delegate, WriteAheadLog writeAheadLog, Path snapshotPath, long compactAfterBytes) {
+        this.delegate = delegate;
+        this.writeAheadLog = writeAheadLog;
+        this.snapshotPath = snapshotPath;
+        this.compactAfterBytes = compactAfterBytes;
+    }
+
+    @Override
+    public Collection<MockEmployee> snapshot() {
+        checkAvailable();
+        return delegate.snapshot();
+    }
+
+    @Override
+    public Optional<MockEmployee> findById(UUID id) {
+        checkAvailable();
+        return delegate.findById(id);
+    }
+
+    @Override
+    public int size() {
+        checkAvailable();
+        return delegate.size();
+    }
+
+    @Override
+    public void add(MockEmployee employee) {
+        addAll(List.of(employee));
+    }
+
+    @Override
+    public void addAll(List<MockEmployee> employees) {
+        checkAvailable();
+        if (employees.isEmpty()) {
+            return;
+        }
+        final var created = WriteAheadLog.created(employees);
+        final CompletableFuture<Void> durable;
+        synchronized (writeLock) {
+            checkAvailable();
+            delegate.addAll(employees);
+            durable = writeAheadLog.append(created);
+        }
+        await(durable);
+        compactIfDue();
+    }
+
+    @Override
+    public Optional<MockEmployee> removeFirstByName(String name) {
+        return removeFirstByNames(List.of(name)).get(0);
+    }
+
+    @Override
+    public List<Optional<MockEmployee>> removeFirstByNames(List<String> names) {
+        checkAvailable();
+        // the logged names are a subset of these, so if these encode, those do
+        final var deletedAll = WriteAheadLog.deleted(names);
+        final List<Optional<MockEmployee>> removed;
+        final CompletableFuture<Void> durable;
+        synchronized (writeLock) {
+            checkAvailable();
+            removed = delegate.removeFirstByNames(names);
+            final var removing = new ArrayList<String>();
+            for (int i = 0; i < names.size(); i++) {
+                if (removed.get(i).isPresent()) {
+                    removing.add(names.get(i));
+                }
+            }
+            if (removing.isEmpty()) {
+                durable = null;
+            } else {
+                durable = writeAheadLog.append(
+                        removing.size() == names.size() ? deletedAll : WriteAheadLog.deleted(removing));
+            }
+        }
+        if (durable != null) {
+            await(durable);
+            compactIfDue();
+        }
+        return removed;
+    }
+
+    /**
+     * Writes the current employees to the snapshot and drops the log segments it includes. Writers are only held up
+     * while the point-in-time view is taken.
+     */
+    public void compact() throws IOException {
+        final Collection<MockEmployee> employees;
+        final CompletableFuture<Long> rotated;
+        synchronized (writeLock) {
+            checkAvailable();
+            employees = delegate.snapshot();
+            rotated = writeAheadLog.rotate();
+        }
+        final long sequence = await(rotated);
+        final var started = System.nanoTime();
+        MappedRoster.write(employees, snapshotPath, sequence);
+        writeAheadLog.deleteSegmentsThrough(sequence);
+        log.info(
+                "Compacted write-ahead log into {} at sequence {}: {} employees in {} ms",
+                snapshotPath,
+                sequence,
+                employees.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    @Override
+    public void close() throws IOException {
+        compactor.shutdown();
+        try {
+            compactor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (snapshotPath != null && failure == null) {
+            compact();
+        }
+        writeAheadLog.close();
+    }
+
+    private void compactIfDue() {
+        if (snapshotPath == null
+                || writeAheadLog.getBytesSinceRotation() < compactAfterBytes
+                || !compacting.compareAndSet(false, true)) {
+            return;
+        }
+        compactor.execute(() -> {
+            try {
+                compact();
+            } catch (IOException | RuntimeException e) {
+                log.error("Write-ahead log compaction failed", e);
+            } finally {
+                compacting.set(false);
+            }
+        });
+    }
+
+    private void checkAvailable() {
+        if (failure != null) {
+            throw new UncheckedIOException("Write-ahead log failed; restart to recover", failure);
+        }
+    }
+
+    private <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException cause) {
+                if (failure == null) {
+                    failure = cause;
+                }
+                throw new UncheckedIOException("Write-ahead log is unavailable", cause);
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Storage behind {@link com.reliaquest.server.service.MockEmployeeService}. Implementations must be safe for concurrent
+ * readers and writers: every mutation is atomic, and {@link #snapshot()} reflects exactly the mutations completed
+ * before it was taken.
+ */
+public interface EmployeeStore {
+
+    /**
+     * All employees in insertion order, as of now. The view is immutable and does not see later mutations.
+     */
+    Collection<MockEmployee> snapshot();
+
+    Optional<MockEmployee> findById(UUID id);
+
+    int size();
+
+    void add(MockEmployee employee);
+
+    /**
+     * Appends every employee as one mutation.
+     */
+    void addAll(List<MockEmployee> employees);
+
+    /**
+     * Removes the first employee, in insertion order, whose name equals {@code name} ignoring case.
+     */
+    Optional<MockEmployee> removeFirstByName(String name);
+
+    /**
+     * Same as calling {@link #removeFirstByName(String)} for each name in order, as one mutation.
+     */
+    List<Optional<MockEmployee>> removeFirstByNames(List<String> names);
+
+    /**
+     * Two names fold to the same key exactly when {@link String#equalsIgnoreCase} says they are equal: that method
+     * compares code points by upper case, then by the lower case of the upper case.
+     */
+    static String fold(String name) {
+        final var folded = new StringBuilder(name.length());
+        name.codePoints()
+                .map(codePoint -> Character.toLowerCase(Character.toUpperCase(codePoint)))
+                .forEach(folded::appendCodePoint);
+        return folded.toString();
+    }
+}
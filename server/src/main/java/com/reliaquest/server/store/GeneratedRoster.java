@@ -0,0 +1,27 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.config.MockEmployeeGenerator;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.OptionalInt;
+import java.util.UUID;
+
+/**
+ * The first {@code size} employees of a {@link MockEmployeeGenerator}, generated whenever they are read.
+ */
+public record GeneratedRoster(MockEmployeeGenerator generator, int size) implements Roster {
+
+    @Override
+    public MockEmployee get(int ordinal) {
+        return generator.generate(ordinal);
+    }
+
+    @Override
+    public String nameOf(int ordinal) {
+        return generator.nameOf(ordinal);
+    }
+
+    @Override
+    public OptionalInt ordinalOf(UUID id) {
+        return generator.ordinalOf(id).stream().filter(ordinal -> ordinal < size).findFirst();
+    }
+}
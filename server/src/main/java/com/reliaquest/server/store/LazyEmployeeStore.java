@@ -0,0 +1,268 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Store whose initial employees are never held on the heap. They come from a {@link Roster}, generated from the seed
+ * ({@link GeneratedRoster}) or decoded from a mapped file ({@link MappedRoster}) whenever they are read, and only what
+ * changed is kept: the ordinals deleted from the roster, and the employees created since, in a
+ * {@link SegmentedEmployeeStore}. Startup costs next to nothing, and memory grows with the number of writes rather than
+ * with the size of the roster.
+ *
+ * <p>The roster resolves ids itself, so a lookup by id needs no index here. A delete by name has to find the first
+ * roster employee with that name, which takes a name index: one {@code long} per roster employee, the hash of its
+ * folded name above its ordinal, sorted. It is built once, in parallel, by the first delete by name, so a store that
+ * is only read never pays for it. Only entries whose hash matches have their name read back from the roster.
+ */
+@Slf4j
+public class LazyEmployeeStore implements EmployeeStore {
+
+    private final Roster roster;
+
+    private final int rosterSize;
+
+    private final SegmentedEmployeeStore created = new SegmentedEmployeeStore(List.of());
+
+    private final Object writeLock = new Object();
+
+    private volatile State state;
+
+    private final Object nameIndexLock = new Object();
+
+    // built on first use, guarded by nameIndexLock; read-only once published
+    private volatile long[] nameIndex;
+
+    public LazyEmployeeStore(Roster roster) {
+        this.roster = roster;
+        this.rosterSize = roster.size();
+        this.state = new State(new int[0], created.snapshot());
+    }
+
+    @Override
+    public Collection<MockEmployee> snapshot() {
+        return new Snapshot(state);
+    }
+
+    @Override
+    public Optional<MockEmployee> findById(UUID id) {
+        final var ordinal = roster.ordinalOf(id);
+        if (ordinal.isPresent()) {
+            return state.isDeleted(ordinal.getAsInt())
+                    ? Optional.empty()
+                    : Optional.of(roster.get(ordinal.getAsInt()));
+        }
+        return created.findById(id);
+    }
+
+    @Override
+    public int size() {
+        return state.size();
+    }
+
+    @Override
+    public void add(MockEmployee employee) {
+        addAll(List.of(employee));
+    }
+
+    @Override
+    public void addAll(List<MockEmployee> employees) {
+        synchronized (writeLock) {
+            created.addAll(employees);
+            state = new State(state.deletedOrdinals, created.snapshot());
+        }
+    }
+
+    @Override
+    public Optional<MockEmployee> removeFirstByName(String name) {
+        return removeFirstByNames(List.of(name)).get(0);
+    }
+
+    @Override
+    public List<Optional<MockEmployee>> removeFirstByNames(List<String> names) {
+        // built before taking writeLock, so creates are not held up by the first delete
+        final var index = nameIndex();
+        synchronized (writeLock) {
+            final var results = new ArrayList<Optional<MockEmployee>>(names.size());
+            final var deleted = new ArrayList<Integer>();
+            final var deletedHere = new HashSet<Integer>();
+            // names the roster cannot serve fall through to the created employees, which come after it
+            final var fromCreated = new ArrayList<String>();
+            final var fromCreatedPositions = new ArrayList<Integer>();
+
+            for (final var name : names) {
+                final var ordinal = firstInRoster(index, EmployeeStore.fold(name), deletedHere);
+                if (ordinal < rosterSize) {
+                    deleted.add(ordinal);
+                    deletedHere.add(ordinal);
+                    results.add(Optional.of(roster.get(ordinal)));
+                } else {
+                    fromCreated.add(name);
+                    fromCreatedPositions.add(results.size());
+                    results.add(Optional.empty());
+                }
+            }
+
+            if (!fromCreated.isEmpty()) {
+                final var removed = created.removeFirstByNames(fromCreated);
+                for (int i = 0; i < removed.size(); i++) {
+                    results.set(fromCreatedPositions.get(i), removed.get(i));
+                }
+            }
+            if (!deleted.isEmpty() || !fromCreated.isEmpty()) {
+                state = new State(state.withDeleted(deleted), created.snapshot());
+            }
+            return results;
+        }
+    }
+
+    /*
+     * Caller holds writeLock. Returns the first roster ordinal whose name folds to folded and that is deleted neither
+     * in the current state nor in deletedHere; rosterSize when there is none.
+     */
+    private int firstInRoster(long[] index, String folded, Set<Integer> deletedHere) {
+        final var hash = folded.hashCode();
+        // the least entry with this hash: ordinals are never negative, so ordinal 0 sorts first
+        var i = Arrays.binarySearch(index, entry(hash, 0));
+        for (i = i >= 0 ? i : -i - 1; i < index.length && (int) (index[i] >>> 32) == hash; i++) {
+            final var ordinal = (int) index[i];
+            if (!state.isDeleted(ordinal)
+                    && !deletedHere.contains(ordinal)
+                    && folded.equals(EmployeeStore.fold(roster.nameOf(ordinal)))) {
+                return ordinal;
+            }
+        }
+        return rosterSize;
+    }
+
+    private long[] nameIndex() {
+        final var built = nameIndex;
+        if (built != null) {
+            return built;
+        }
+        synchronized (nameIndexLock) {
+            if (nameIndex == null) {
+                final var started = System.nanoTime();
+                final var index = new long[rosterSize];
+                IntStream.range(0, rosterSize)
+                        .parallel()
+                        .forEach(ordinal ->
+                                index[ordinal] = entry(EmployeeStore.fold(roster.nameOf(ordinal)).hashCode(), ordinal));
+                Arrays.parallelSort(index);
+                log.info(
+                        "Indexed the names of {} roster employees in {} ms",
+                        rosterSize,
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+                nameIndex = index;
+            }
+            return nameIndex;
+        }
+    }
+
+    /*
+     * Sorts by hash, then by ordinal.
+     */
+    private static long entry(int hash, int ordinal) {
+        return (long) hash << 32 | ordinal;
+    }
+
+    private final class State {
+
+        // sorted
+        private final int[] deletedOrdinals;
+        private final Collection<MockEmployee> createdEmployees;
+
+        private State(int[] deletedOrdinals, Collection<MockEmployee> createdEmployees) {
+            this.deletedOrdinals = deletedOrdinals;
+            this.createdEmployees = createdEmployees;
+        }
+
+        private int size() {
+            return rosterSize - deletedOrdinals.length + createdEmployees.size();
+        }
+
+        private boolean isDeleted(int ordinal) {
+            return Arrays.binarySearch(deletedOrdinals, ordinal) >= 0;
+        }
+
+        /*
+         * Only the new ordinals are sorted; they are then merged into the sorted ones already deleted, which none of
+         * them repeats.
+         */
+        private int[] withDeleted(List<Integer> ordinals) {
+            final var added = ordinals.stream().mapToInt(Integer::intValue).sorted().toArray();
+            final var merged = new int[deletedOrdinals.length + added.length];
+            var i = 0;
+            var j = 0;
+            for (int k = 0; k < merged.length; k++) {
+                merged[k] = j == added.length || (i < deletedOrdinals.length && deletedOrdinals[i] < added[j])
+                        ? deletedOrdinals[i++]
+                        : added[j++];
+            }
+            return merged;
+        }
+    }
+
+    /**
+     * Read-only view of one state: the remaining roster employees, generated as the iterator reaches them, followed by
+     * the created ones.
+     */
+    private final class Snapshot extends AbstractCollection<MockEmployee> {
+
+        private final State state;
+
+        private Snapshot(State state) {
+            this.state = state;
+        }
+
+        @Override
+        public int size() {
+            return state.size();
+        }
+
+        @Override
+        public Iterator<MockEmployee> iterator() {
+            final var createdIterator = state.createdEmployees.iterator();
+            return new Iterator<>() {
+
+                private int ordinal;
+                private int nextDeleted;
+
+                @Override
+                public boolean hasNext() {
+                    skipDeleted();
+                    return ordinal < rosterSize || createdIterator.hasNext();
+                }
+
+                @Override
+                public MockEmployee next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return ordinal < rosterSize ? roster.get(ordinal++) : createdIterator.next();
+                }
+
+                private void skipDeleted() {
+                    final var deleted = state.deletedOrdinals;
+                    while (nextDeleted < deleted.length && deleted[nextDeleted] == ordinal) {
+                        nextDeleted++;
+                        ordinal++;
+                    }
+                }
+            };
+        }
+    }
+}
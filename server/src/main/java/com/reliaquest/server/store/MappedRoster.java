@@ -0,0 +1,296 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.OptionalInt;
+import java.util.UUID;
+
+/**
+ * A roster saved by {@link #write(Collection, Path)} and read back through a memory-mapped buffer. Opening it costs one
+ * {@code mmap}; an employee is decoded only when it is read, and the pages behind it are loaded by the OS on first
+ * touch.
+ *
+ * <p>Layout, all big-endian:
+ *
+ * <ul>
+ *   <li>header: magic, format version, employee count, id table length, offsets position, id table position (6
+ *       {@code int}s), then the last {@link WriteAheadLog} sequence the roster includes ({@code long}, 0 for none)
+ *   <li>records: id (2 {@code long}s), salary and age ({@code int}s, {@link Integer#MIN_VALUE} for null), then name,
+ *       title and email, each as a byte length ({@code -1} for null) followed by its UTF-8 bytes
+ *   <li>offsets: the position of every record, by ordinal
+ *   <li>id table: open addressing on the id, each slot holding ordinal + 1 or 0 when empty
+ * </ul>
+ *
+ * <p>Positions are {@code int}s, so a file is limited to 2 GiB, which is also the most one mapped buffer can hold.
+ */
+public final class MappedRoster implements Roster {
+
+    private static final int MAGIC = 0x4D524F53;
+    private static final int FORMAT_VERSION = 2;
+    private static final int HEADER_BYTES = 6 * Integer.BYTES + Long.BYTES;
+    private static final int NAME_OFFSET = 2 * Long.BYTES + 2 * Integer.BYTES;
+    private static final int NO_VALUE = Integer.MIN_VALUE;
+
+    private final MappedByteBuffer buffer;
+    private final int size;
+    private final int idTableLength;
+    private final int offsetsPosition;
+    private final int idTablePosition;
+    private final long sequence;
+
+    private MappedRoster(MappedByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a roster snapshot");
+        }
+        if (buffer.getInt(4) != FORMAT_VERSION) {
+            throw new IOException("Unsupported roster snapshot version " + buffer.getInt(4));
+        }
+        this.size = buffer.getInt(8);
+        this.idTableLength = buffer.getInt(12);
+        this.offsetsPosition = buffer.getInt(16);
+        this.idTablePosition = buffer.getInt(20);
+        this.sequence = buffer.getLong(24);
+        if ((long) idTablePosition + (long) idTableLength * Integer.BYTES != buffer.capacity()) {
+            throw new IOException("Truncated roster snapshot");
+        }
+    }
+
+    public static MappedRoster open(Path path) throws IOException {
+        try (final var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Roster snapshot is larger than 2 GiB");
+            }
+            // the mapping outlives the channel
+            return new MappedRoster(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    public static void write(Collection<MockEmployee> employees, Path path) throws IOException {
+        write(employees, path, 0);
+    }
+
+    /**
+     * Writes {@code employees}, in iteration order, next to {@code path} and then moves the file over it, so a reader
+     * never sees a half-written snapshot and a roster already mapped from {@code path} stays readable.
+     *
+     * @param sequence the last write-ahead log sequence already reflected in {@code employees}
+     */
+    public static void write(Collection<MockEmployee> employees, Path path, long sequence) throws IOException {
+        final var temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            writeTo(temporary, employees, sequence);
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.deleteIfExists(temporary);
+            throw e;
+        }
+    }
+
+    private static void writeTo(Path file, Collection<MockEmployee> employees, long sequence) throws IOException {
+        final var count = employees.size();
+        final var offsets = new int[count];
+        final var idHigh = new long[count];
+        final var idLow = new long[count];
+        final var idTable = new int[Integer.highestOneBit(Math.max(8, 2 * count - 1)) << 1];
+        final int offsetsPosition;
+        final int idTablePosition;
+
+        try (final var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.write(new byte[HEADER_BYTES]);
+            var ordinal = 0;
+            for (final var employee : employees) {
+                if (ordinal == count) {
+                    throw new IOException("Employees changed while the snapshot was written");
+                }
+                offsets[ordinal] = position(out);
+                idHigh[ordinal] = employee.getId().getMostSignificantBits();
+                idLow[ordinal] = employee.getId().getLeastSignificantBits();
+                writeEmployee(out, employee);
+                ordinal++;
+            }
+            if (ordinal != count) {
+                throw new IOException("Employees changed while the snapshot was written");
+            }
+
+            offsetsPosition = position(out);
+            for (final var offset : offsets) {
+                out.writeInt(offset);
+            }
+            idTablePosition = position(out);
+            final var mask = idTable.length - 1;
+            for (int i = 0; i < count; i++) {
+                var slot = hash(idHigh[i], idLow[i]) & mask;
+                while (idTable[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                idTable[slot] = i + 1;
+            }
+            for (final var entry : idTable) {
+                out.writeInt(entry);
+            }
+            position(out);
+        }
+
+        try (final var channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            final var header = ByteBuffer.allocate(HEADER_BYTES)
+                    .putInt(MAGIC)
+                    .putInt(FORMAT_VERSION)
+                    .putInt(count)
+                    .putInt(idTable.length)
+                    .putInt(offsetsPosition)
+                    .putInt(idTablePosition)
+                    .putLong(sequence)
+                    .flip();
+            channel.write(header, 0);
+            channel.force(true);
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * The last write-ahead log sequence this roster includes; only later entries need replaying on top of it.
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    @Override
+    public MockEmployee get(int ordinal) {
+        final var position = recordPosition(ordinal);
+        final var salary = buffer.getInt(position + 2 * Long.BYTES);
+        final var age = buffer.getInt(position + 2 * Long.BYTES + Integer.BYTES);
+        final var name = position + NAME_OFFSET;
+        final var title = skipString(name);
+        final var email = skipString(title);
+        return MockEmployee.builder()
+                .id(new UUID(buffer.getLong(position), buffer.getLong(position + Long.BYTES)))
+                .name(stringAt(name))
+                .salary(salary == NO_VALUE ? null : salary)
+                .age(age == NO_VALUE ? null : age)
+                .title(stringAt(title))
+                .email(stringAt(email))
+                .build();
+    }
+
+    @Override
+    public String nameOf(int ordinal) {
+        return stringAt(recordPosition(ordinal) + NAME_OFFSET);
+    }
+
+    @Override
+    public OptionalInt ordinalOf(UUID id) {
+        final var high = id.getMostSignificantBits();
+        final var low = id.getLeastSignificantBits();
+        final var mask = idTableLength - 1;
+        for (int slot = hash(high, low) & mask; ; slot = (slot + 1) & mask) {
+            final var entry = buffer.getInt(idTablePosition + slot * Integer.BYTES);
+            if (entry == 0) {
+                return OptionalInt.empty();
+            }
+            final var position = recordPosition(entry - 1);
+            if (buffer.getLong(position) == high && buffer.getLong(position + Long.BYTES) == low) {
+                return OptionalInt.of(entry - 1);
+            }
+        }
+    }
+
+    private int recordPosition(int ordinal) {
+        return buffer.getInt(offsetsPosition + ordinal * Integer.BYTES);
+    }
+
+    /*
+     * Absolute reads only: they leave the buffer's position alone, so concurrent readers need no locking.
+     */
+    private String stringAt(int position) {
+        final var length = buffer.getInt(position);
+        if (length < 0) {
+            return null;
+        }
+        final var bytes = new byte[length];
+        buffer.get(position + Integer.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int skipString(int position) {
+        return position + Integer.BYTES + Math.max(0, buffer.getInt(position));
+    }
+
+    /*
+     * The record layout, shared with the write-ahead log.
+     */
+    static void writeEmployee(DataOutput out, MockEmployee employee) throws IOException {
+        out.writeLong(employee.getId().getMostSignificantBits());
+        out.writeLong(employee.getId().getLeastSignificantBits());
+        out.writeInt(employee.getSalary() == null ? NO_VALUE : employee.getSalary());
+        out.writeInt(employee.getAge() == null ? NO_VALUE : employee.getAge());
+        writeString(out, employee.getName());
+        writeString(out, employee.getTitle());
+        writeString(out, employee.getEmail());
+    }
+
+    static MockEmployee readEmployee(DataInput in) throws IOException {
+        final var id = new UUID(in.readLong(), in.readLong());
+        final var salary = in.readInt();
+        final var age = in.readInt();
+        return MockEmployee.builder()
+                .id(id)
+                .salary(salary == NO_VALUE ? null : salary)
+                .age(age == NO_VALUE ? null : age)
+                .name(readString(in))
+                .title(readString(in))
+                .email(readString(in))
+                .build();
+    }
+
+    static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        final var bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static String readString(DataInput in) throws IOException {
+        final var length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        final var bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /*
+     * DataOutputStream counts up to Integer.MAX_VALUE and then sticks there.
+     */
+    private static int position(DataOutputStream out) throws IOException {
+        if (out.size() == Integer.MAX_VALUE) {
+            throw new IOException("Roster snapshot would be larger than 2 GiB");
+        }
+        return out.size();
+    }
+
+    private static int hash(long high, long low) {
+        return (int) (((high ^ low) * 0x9E3779B97F4A7C15L) >>> 32);
+    }
+}
@@ -0,0 +1,26 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.OptionalInt;
+import java.util.UUID;
+
+/**
+ * Fixed, numbered employees that {@link LazyEmployeeStore} serves without keeping them on the heap. Implementations
+ * must be safe for concurrent readers.
+ */
+public interface Roster {
+
+    int size();
+
+    MockEmployee get(int ordinal);
+
+    /**
+     * The name of {@link #get(int)}, ideally without building the rest of the employee.
+     */
+    String nameOf(int ordinal);
+
+    /**
+     * The ordinal of the employee with {@code id}, if this roster has one.
+     */
+    OptionalInt ordinalOf(UUID id);
+}
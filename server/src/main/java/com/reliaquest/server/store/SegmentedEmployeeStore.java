@@ -0,0 +1,264 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.AbstractCollection;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Copy-on-write store split into fixed-size segments.
+ *
+ * <p>Every employee gets a slot number when it is appended, and slot {@code n} lives at offset
+ * {@code n % SEGMENT_SIZE} of segment {@code n / SEGMENT_SIZE}. A write copies only the segment it touches plus the
+ * segment table, then publishes a new immutable {@link State} through one volatile write. Writers are serialized by a
+ * single lock, so creates and deletes are linearizable; that volatile write is their linearization point. Readers
+ * never lock: a list read iterates the state it started with, without copying it.
+ *
+ * <p>A delete leaves an empty slot behind. Once empty slots outnumber employees, the store is rebuilt densely.
+ */
+@Slf4j
+public class SegmentedEmployeeStore implements EmployeeStore {
+
+    static final int SEGMENT_SHIFT = 10;
+    static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+    static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+    private final Object writeLock = new Object();
+
+    private volatile State state;
+
+    /*
+     * Writer-only index, guarded by writeLock: folded name -> slots holding that name, oldest first.
+     */
+    private Map<String, ArrayDeque<Long>> slotsByFoldedName = new HashMap<>();
+
+    public SegmentedEmployeeStore(List<MockEmployee> initialEmployees) {
+        synchronized (writeLock) {
+            state = append(State.empty(), initialEmployees, slotsByFoldedName);
+        }
+    }
+
+    @Override
+    public Collection<MockEmployee> snapshot() {
+        return new Snapshot(state);
+    }
+
+    @Override
+    public Optional<MockEmployee> findById(UUID id) {
+        // the id index always belongs to the state it was read from, so the slot cannot be from another numbering
+        final var current = state;
+        final var slot = current.slotsById.get(id);
+        return Optional.ofNullable(slot == null ? null : current.get(slot));
+    }
+
+    @Override
+    public int size() {
+        return state.size;
+    }
+
+    @Override
+    public void add(MockEmployee employee) {
+        addAll(List.of(employee));
+    }
+
+    @Override
+    public void addAll(List<MockEmployee> employees) {
+        synchronized (writeLock) {
+            state = append(state, employees, slotsByFoldedName);
+        }
+    }
+
+    @Override
+    public Optional<MockEmployee> removeFirstByName(String name) {
+        return removeFirstByNames(List.of(name)).get(0);
+    }
+
+    @Override
+    public List<Optional<MockEmployee>> removeFirstByNames(List<String> names) {
+        synchronized (writeLock) {
+            final var current = state;
+            final var segments = current.segments.clone();
+            final var copied = new boolean[segments.length];
+            final var removed = new ArrayList<Removal>();
+            final var results = new ArrayList<Optional<MockEmployee>>(names.size());
+
+            for (final var name : names) {
+                final var folded = EmployeeStore.fold(name);
+                final var sameName = slotsByFoldedName.get(folded);
+                if (sameName == null) {
+                    results.add(Optional.empty());
+                    continue;
+                }
+                final long slot = sameName.pollFirst();
+                if (sameName.isEmpty()) {
+                    slotsByFoldedName.remove(folded);
+                }
+                final var segment = (int) (slot >>> SEGMENT_SHIFT);
+                if (!copied[segment]) {
+                    segments[segment] = segments[segment].clone();
+                    copied[segment] = true;
+                }
+                final var offset = (int) (slot & SEGMENT_MASK);
+                final var employee = segments[segment][offset];
+                segments[segment][offset] = null;
+                removed.add(new Removal(slot, employee));
+                results.add(Optional.of(employee));
+            }
+
+            if (!removed.isEmpty()) {
+                final var size = current.size - removed.size();
+                final var emptySlots = current.emptySlots + removed.size();
+                state = new State(segments, current.nextSlot, size, emptySlots, current.slotsById);
+                // only after the publish: a reader still holding the old state keeps resolving these ids
+                removed.stream()
+                        .filter(removal -> Objects.nonNull(removal.employee().getId()))
+                        .forEach(removal -> current.slotsById.remove(removal.employee().getId(), removal.slot()));
+                if (emptySlots > Math.max(SEGMENT_SIZE, size)) {
+                    compact();
+                }
+            }
+            return results;
+        }
+    }
+
+    /*
+     * Caller holds writeLock. Builds the state with employees appended to base; the caller publishes it.
+     */
+    private static State append(State base, List<MockEmployee> employees, Map<String, ArrayDeque<Long>> nameIndex) {
+        if (employees.isEmpty()) {
+            return base;
+        }
+        final var lastSlot = base.nextSlot + employees.size() - 1;
+        final var segmentCount = (int) (lastSlot >>> SEGMENT_SHIFT) + 1;
+        final var segments = Arrays.copyOf(base.segments, segmentCount);
+        for (int i = (int) (base.nextSlot >>> SEGMENT_SHIFT); i < segmentCount; i++) {
+            segments[i] = segments[i] == null ? new MockEmployee[SEGMENT_SIZE] : segments[i].clone();
+        }
+
+        var slot = base.nextSlot;
+        for (final var employee : employees) {
+            segments[(int) (slot >>> SEGMENT_SHIFT)][(int) (slot & SEGMENT_MASK)] = employee;
+            if (Objects.nonNull(employee.getId())) {
+                // first one wins, as a scan in insertion order would. Base does not contain the slot, so a reader
+                // that sees this entry before the new state is published still finds nothing.
+                base.slotsById.putIfAbsent(employee.getId(), slot);
+            }
+            if (Objects.nonNull(employee.getName())) {
+                nameIndex
+                        .computeIfAbsent(EmployeeStore.fold(employee.getName()), ignored -> new ArrayDeque<>())
+                        .addLast(slot);
+            }
+            slot++;
+        }
+        return new State(segments, slot, base.size + employees.size(), base.emptySlots, base.slotsById);
+    }
+
+    /*
+     * Caller holds writeLock. Renumbers every slot, so both indexes are rebuilt and the id index is published together
+     * with the new state.
+     */
+    private void compact() {
+        final var live = new ArrayList<MockEmployee>(state.size);
+        new Snapshot(state).forEach(live::add);
+        log.debug("Compacting employee store: {} employees, {} empty slots", live.size(), state.emptySlots);
+        final var nameIndex = new HashMap<String, ArrayDeque<Long>>();
+        state = append(State.empty(), live, nameIndex);
+        slotsByFoldedName = nameIndex;
+    }
+
+    private record Removal(long slot, MockEmployee employee) {}
+
+    private static final class State {
+
+        private final MockEmployee[][] segments;
+        private final long nextSlot;
+        private final int size;
+        private final int emptySlots;
+        private final ConcurrentMap<UUID, Long> slotsById;
+
+        private State(
+                MockEmployee[][] segments,
+                long nextSlot,
+                int size,
+                int emptySlots,
+                ConcurrentMap<UUID, Long> slotsById) {
+            this.segments = segments;
+            this.nextSlot = nextSlot;
+            this.size = size;
+            this.emptySlots = emptySlots;
+            this.slotsById = slotsById;
+        }
+
+        private static State empty() {
+            return new State(new MockEmployee[0][], 0, 0, 0, new ConcurrentHashMap<>());
+        }
+
+        private MockEmployee get(long slot) {
+            if (slot >= nextSlot) {
+                return null;
+            }
+            return segments[(int) (slot >>> SEGMENT_SHIFT)][(int) (slot & SEGMENT_MASK)];
+        }
+    }
+
+    /**
+     * Read-only view of one state. Serializing it walks the segments directly.
+     */
+    private static final class Snapshot extends AbstractCollection<MockEmployee> {
+
+        private final State state;
+
+        private Snapshot(State state) {
+            this.state = state;
+        }
+
+        @Override
+        public int size() {
+            return state.size;
+        }
+
+        @Override
+        public Iterator<MockEmployee> iterator() {
+            return new Iterator<>() {
+
+                private long slot = advance(0);
+
+                @Override
+                public boolean hasNext() {
+                    return slot < state.nextSlot;
+                }
+
+                @Override
+                public MockEmployee next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    final var employee = state.get(slot);
+                    slot = advance(slot + 1);
+                    return employee;
+                }
+
+                private long advance(long from) {
+                    var next = from;
+                    while (next < state.nextSlot && state.get(next) == null) {
+                        next++;
+                    }
+                    return next;
+                }
+            };
+        }
+    }
+}
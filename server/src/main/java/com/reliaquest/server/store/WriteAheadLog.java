@@ -0,0 +1,485 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append-only log of store mutations with group commit.
+ *
+ * <p>Appends only queue an entry and return a future. One flusher thread takes everything queued so far, writes it
+ * with one {@code write} and makes it durable with one {@link FileChannel#force}, then completes the whole batch.
+ * Writers that arrive during a force form the next batch, so under load many mutations share one fsync.
+ *
+ * <p>The log is a directory of segments named after the sequence of their first entry. An entry is framed as body
+ * length, sequence, body and a CRC32 of sequence and body; replay stops reading a segment at the first frame that is
+ * cut short or fails its checksum, which is where a crash interrupted it. Sequences have no gaps, so replay also stops
+ * at the first entry that does not follow the one before it: what comes after was logged on top of entries that are
+ * lost, and replaying it would build a state that never existed. The segments from there on are renamed aside rather
+ * than deleted. Every start and every {@link #rotate()} opens a new segment, and segments that a roster snapshot
+ * already includes are deleted.
+ *
+ * <p>A failed write or fsync leaves the segment in an unknown state, so the log stops there: the partial batch is
+ * truncated away where possible, and every pending and later append fails. Only a restart, which replays what was
+ * durable, recovers.
+ */
+@Slf4j
+public final class WriteAheadLog implements Closeable {
+
+    private static final String SEGMENT_SUFFIX = ".wal";
+    private static final String SET_ASIDE_SUFFIX = ".orphaned";
+    private static final byte CREATED = 1;
+    private static final byte DELETED = 2;
+    private static final int MAX_ENTRY_BYTES = 1 << 28;
+    private static final int FRAME_OVERHEAD_BYTES = Integer.BYTES + Long.BYTES + Integer.BYTES;
+
+    private final Path directory;
+
+    private final Thread flusher;
+
+    private final AtomicLong bytesSinceRotation = new AtomicLong();
+
+    // guarded by itself
+    private final List<Pending> queue = new ArrayList<>();
+
+    // guarded by queue
+    private long lastSequence;
+
+    // guarded by queue
+    private boolean closed;
+
+    // guarded by queue; set once, when a write fails
+    private IOException failure;
+
+    // flusher-only
+    private FileChannel segment;
+
+    // flusher-only
+    private long segmentStart;
+
+    private WriteAheadLog(Path directory, long lastSequence) throws IOException {
+        this.directory = directory;
+        this.lastSequence = lastSequence;
+        openSegment(lastSequence + 1);
+        this.flusher = new Thread(this::flushLoop, "wal-flusher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    /**
+     * Replays every entry after {@code afterSequence} into {@code store}, then opens the log for appending.
+     */
+    public static WriteAheadLog open(Path directory, long afterSequence, EmployeeStore store) throws IOException {
+        Files.createDirectories(directory);
+        var lastSequence = afterSequence;
+        var replayed = 0;
+        final var segments = segments(directory);
+        replay:
+        for (int i = 0; i < segments.size(); i++) {
+            final var segment = segments.get(i);
+            var offset = 0L;
+            try (final var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(segment)))) {
+                Entry entry;
+                while ((entry = readEntry(in, segment)) != null) {
+                    if (entry.sequence() > lastSequence + 1) {
+                        log.error(
+                                "Write-ahead log entry {} in {} does not follow entry {}; setting it and everything "
+                                        + "after it aside",
+                                entry.sequence(),
+                                segment,
+                                lastSequence);
+                        in.close();
+                        setAside(segments.subList(i, segments.size()), offset);
+                        break replay;
+                    }
+                    if (entry.sequence() > lastSequence) {
+                        entry.applyTo(store);
+                        lastSequence = entry.sequence();
+                        replayed++;
+                    }
+                    offset += FRAME_OVERHEAD_BYTES + entry.body().length;
+                }
+            }
+        }
+        log.info("Replayed {} write-ahead log entries from {}, last sequence {}", replayed, directory, lastSequence);
+        return new WriteAheadLog(directory, lastSequence);
+    }
+
+    /**
+     * Encodes the creation of {@code employees}, before they are applied, so a mutation too large to log is rejected
+     * while the store is still unchanged.
+     *
+     * @throws IllegalArgumentException when the entry would be larger than replay accepts
+     */
+    public static Mutation created(List<MockEmployee> employees) {
+        return new Mutation(encode(CREATED, out -> {
+            out.writeInt(employees.size());
+            for (final var employee : employees) {
+                MappedRoster.writeEmployee(out, employee);
+            }
+        }));
+    }
+
+    /**
+     * Encodes deletes by name; only names that removed an employee need logging, since the others changed nothing.
+     *
+     * @throws IllegalArgumentException when the entry would be larger than replay accepts
+     */
+    public static Mutation deleted(List<String> names) {
+        return new Mutation(encode(DELETED, out -> {
+            out.writeInt(names.size());
+            for (final var name : names) {
+                MappedRoster.writeString(out, name);
+            }
+        }));
+    }
+
+    /**
+     * Queues {@code mutation} as the next entry.
+     *
+     * @return completed once the entry is durable, or exceptionally with the {@link IOException} that stopped the log
+     */
+    public CompletableFuture<Void> append(Mutation mutation) {
+        synchronized (queue) {
+            if (failure != null || closed) {
+                return CompletableFuture.failedFuture(unavailable());
+            }
+            final var pending = new Pending(++lastSequence, mutation.body, new CompletableFuture<>());
+            enqueue(pending);
+            return pending.done();
+        }
+    }
+
+    /**
+     * Closes the current segment after everything appended so far is durable and starts a new one.
+     *
+     * @return the sequence of the last entry before the rotation, once it is durable
+     */
+    public CompletableFuture<Long> rotate() {
+        synchronized (queue) {
+            final var sequence = lastSequence;
+            final var pending = new Pending(sequence + 1, null, new CompletableFuture<>());
+            enqueue(pending);
+            return pending.done().thenApply(ignored -> sequence);
+        }
+    }
+
+    /**
+     * Deletes the segments holding only entries up to {@code sequence}, once a roster snapshot includes them.
+     */
+    public void deleteSegmentsThrough(long sequence) throws IOException {
+        final var segments = segments(directory);
+        // a segment's entries run up to the start of the next one
+        for (int i = 0; i + 1 < segments.size(); i++) {
+            if (startOf(segments.get(i + 1)) <= sequence + 1) {
+                Files.delete(segments.get(i));
+            }
+        }
+    }
+
+    public long getBytesSinceRotation() {
+        return bytesSinceRotation.get();
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (queue) {
+            closed = true;
+            queue.notifyAll();
+        }
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        segment.close();
+    }
+
+    /*
+     * Caller holds queue.
+     */
+    private void enqueue(Pending pending) {
+        if (failure != null || closed) {
+            pending.done().completeExceptionally(unavailable());
+            return;
+        }
+        queue.add(pending);
+        queue.notifyAll();
+    }
+
+    /*
+     * Caller holds queue.
+     */
+    private IOException unavailable() {
+        return failure != null
+                ? new IOException("Write-ahead log stopped after a failed write", failure)
+                : new IOException("Write-ahead log is closed");
+    }
+
+    private void flushLoop() {
+        while (true) {
+            final List<Pending> batch;
+            synchronized (queue) {
+                while (queue.isEmpty() && !closed) {
+                    try {
+                        queue.wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+                if (queue.isEmpty()) {
+                    return;
+                }
+                batch = new ArrayList<>(queue);
+                queue.clear();
+            }
+            flush(batch);
+        }
+    }
+
+    /*
+     * Writes the batch up to each rotation, forces it, and completes it; one force per segment touched.
+     */
+    private void flush(List<Pending> batch) {
+        final var frames = new ByteArrayOutputStream();
+        final var written = new ArrayList<Pending>(batch.size());
+        // end of the last durable entry in the current segment, once known
+        var durableEnd = -1L;
+        try {
+            durableEnd = segment.position();
+            for (final var pending : batch) {
+                if (pending.body() == null) {
+                    sync(frames, written);
+                    if (pending.sequence() != segmentStart) {
+                        segment.close();
+                        openSegment(pending.sequence());
+                    }
+                    durableEnd = segment.position();
+                    bytesSinceRotation.set(0);
+                    pending.done().complete(null);
+                } else {
+                    writeFrame(frames, pending);
+                    written.add(pending);
+                }
+            }
+            sync(frames, written);
+        } catch (IOException e) {
+            fail(e, durableEnd);
+            batch.forEach(pending -> pending.done().completeExceptionally(e));
+        }
+    }
+
+    /*
+     * Stops the log. Entries after the failed batch were queued on top of it, so they fail too: logging them would
+     * leave a gap in the sequence.
+     */
+    private void fail(IOException e, long durableEnd) {
+        log.error("Write-ahead log write failed; no further mutations are accepted until a restart", e);
+        if (durableEnd >= 0) {
+            // frames past this point may be partly on disk; cut them off so a restart does not replay them
+            try {
+                segment.truncate(durableEnd);
+                segment.force(false);
+            } catch (IOException | RuntimeException truncateFailure) {
+                e.addSuppressed(truncateFailure);
+            }
+        }
+        final List<Pending> abandoned;
+        synchronized (queue) {
+            failure = e;
+            abandoned = new ArrayList<>(queue);
+            queue.clear();
+        }
+        abandoned.forEach(pending -> pending.done().completeExceptionally(e));
+    }
+
+    private void sync(ByteArrayOutputStream frames, List<Pending> written) throws IOException {
+        if (written.isEmpty()) {
+            return;
+        }
+        final var buffer = ByteBuffer.wrap(frames.toByteArray());
+        while (buffer.hasRemaining()) {
+            segment.write(buffer);
+        }
+        segment.force(false);
+        bytesSinceRotation.addAndGet(frames.size());
+        written.forEach(pending -> pending.done().complete(null));
+        written.clear();
+        frames.reset();
+    }
+
+    private void openSegment(long start) throws IOException {
+        // a segment with this start can only hold a torn entry, so it is overwritten
+        segment = FileChannel.open(
+                directory.resolve("%020d%s".formatted(start, SEGMENT_SUFFIX)),
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        segmentStart = start;
+    }
+
+    private static void writeFrame(ByteArrayOutputStream frames, Pending pending) {
+        final var checksum = new CRC32();
+        checksum.update(ByteBuffer.allocate(Long.BYTES).putLong(0, pending.sequence()));
+        checksum.update(pending.body());
+        final var out = new DataOutputStream(frames);
+        try {
+            out.writeInt(pending.body().length);
+            out.writeLong(pending.sequence());
+            out.write(pending.body());
+            out.writeInt((int) checksum.getValue());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /*
+     * The next entry, or null at the end of the segment or at a torn entry.
+     */
+    private static Entry readEntry(DataInputStream in, Path segment) throws IOException {
+        try {
+            final var length = in.readInt();
+            final var sequence = in.readLong();
+            if (length < 0 || length > MAX_ENTRY_BYTES) {
+                log.warn("Ignoring the rest of {} after a torn entry", segment);
+                return null;
+            }
+            final var body = new byte[length];
+            in.readFully(body);
+            final var expected = in.readInt();
+            final var checksum = new CRC32();
+            checksum.update(ByteBuffer.allocate(Long.BYTES).putLong(0, sequence));
+            checksum.update(body);
+            if ((int) checksum.getValue() != expected) {
+                log.warn("Ignoring the rest of {} after a torn entry", segment);
+                return null;
+            }
+            return new Entry(sequence, body);
+        } catch (EOFException e) {
+            return null;
+        }
+    }
+
+    /*
+     * Moves the entries from offset in the first segment, and every later segment, out of replay's way. A segment whose
+     * first entries replayed keeps them, and its tail is copied out before it is truncated.
+     */
+    private static void setAside(List<Path> segments, long offset) throws IOException {
+        final var suffix = SET_ASIDE_SUFFIX + "-" + System.currentTimeMillis();
+        final var first = segments.get(0);
+        if (offset == 0) {
+            Files.move(first, first.resolveSibling(first.getFileName() + suffix));
+        } else {
+            try (final var from = FileChannel.open(first, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                    final var to = FileChannel.open(
+                            first.resolveSibling(first.getFileName() + suffix),
+                            StandardOpenOption.CREATE_NEW,
+                            StandardOpenOption.WRITE)) {
+                for (var position = offset; position < from.size(); ) {
+                    position += from.transferTo(position, from.size() - position, to);
+                }
+                to.force(false);
+                from.truncate(offset);
+                from.force(false);
+            }
+        }
+        for (final var segment : segments.subList(1, segments.size())) {
+            Files.move(segment, segment.resolveSibling(segment.getFileName() + suffix));
+        }
+        log.warn("Set {} write-ahead log segments aside with suffix {}", segments.size(), suffix);
+    }
+
+    private static List<Path> segments(Path directory) throws IOException {
+        try (final var files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().matches("\\d+\\" + SEGMENT_SUFFIX))
+                    .sorted((left, right) -> Long.compare(startOf(left), startOf(right)))
+                    .toList();
+        }
+    }
+
+    private static long startOf(Path segment) {
+        final var fileName = segment.getFileName().toString();
+        return Long.parseLong(fileName.substring(0, fileName.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static byte[] encode(byte type, BodyWriter writer) {
+        final var bytes = new ByteArrayOutputStream();
+        final var out = new DataOutputStream(bytes);
+        try {
+            out.writeByte(type);
+            writer.write(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (bytes.size() > MAX_ENTRY_BYTES) {
+            throw new IllegalArgumentException(
+                    "Write-ahead log entry of %d bytes exceeds %d".formatted(bytes.size(), MAX_ENTRY_BYTES));
+        }
+        return bytes.toByteArray();
+    }
+
+    @FunctionalInterface
+    private interface BodyWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    /**
+     * An encoded entry, ready to {@link #append}.
+     */
+    public static final class Mutation {
+
+        private final byte[] body;
+
+        private Mutation(byte[] body) {
+            this.body = body;
+        }
+    }
+
+    /**
+     * A queued entry, or a rotation to a segment starting at {@code sequence} when {@code body} is null.
+     */
+    private record Pending(long sequence, byte[] body, CompletableFuture<Void> done) {}
+
+    private record Entry(long sequence, byte[] body) {
+
+        private void applyTo(EmployeeStore store) throws IOException {
+            final var in = new DataInputStream(new ByteArrayInputStream(body));
+            final var type = in.readByte();
+            final var count = in.readInt();
+            if (type == CREATED) {
+                final var employees = new ArrayList<MockEmployee>(count);
+                for (int i = 0; i < count; i++) {
+                    employees.add(MappedRoster.readEmployee(in));
+                }
+                store.addAll(employees);
+            } else if (type == DELETED) {
+                final var names = new ArrayList<String>(count);
+                for (int i = 0; i < count; i++) {
+                    names.add(MappedRoster.readString(in));
+                }
+                store.removeFirstByNames(names);
+            } else {
+                throw new IOException("Unknown write-ahead log entry type " + type);
+            }
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.reliaquest.server.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.Response;
+import com.reliaquest.server.web.FaultProfile.EndpointFaults;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Makes the server behave like a slow, flaky dependency according to the current {@link FaultProfile}: each request
+ * first waits for a latency drawn from the profile, then may be answered with an error status or have its connection
+ * dropped partway through the response.
+ *
+ * <p>The servlet API cannot send a TCP reset, so a reset is the nearest thing to one: the response is committed with a
+ * promised body it never finishes, and the request then fails with an {@link InjectedResetException}. A container
+ * cannot answer a committed response with an error, so it aborts it instead: HTTP/1.1 closes the connection and HTTP/2,
+ * including h2c, resets the stream. Either way the client sees the body end early.
+ *
+ * <p>The profile is swapped as a whole, so a request never sees half of an update.
+ */
+@Slf4j
+public class FaultInjectionInterceptor implements HandlerInterceptor {
+
+    private static final int RESET_CLAIMED_BYTES = 1024;
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    private final AtomicReference<FaultProfile> profile;
+
+    private final ObjectMapper objectMapper;
+
+    public FaultInjectionInterceptor(FaultProfile profile, ObjectMapper objectMapper) {
+        this.profile = new AtomicReference<>(profile);
+        this.objectMapper = objectMapper;
+    }
+
+    public FaultProfile getProfile() {
+        return profile.get();
+    }
+
+    public void setProfile(FaultProfile profile) {
+        this.profile.set(profile);
+        log.info("Fault profile is now {}", profile);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        final var current = profile.get();
+        if (!current.hasFaults()) {
+            return true;
+        }
+        final var random = ThreadLocalRandom.current();
+        final var endpoint = endpointFor(current, request);
+
+        final var latency = endpoint != null && endpoint.latency() != null ? endpoint.latency() : current.latency();
+        final var delayNanos = latency.sampleNanos(random);
+        if (delayNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(delayNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        final var resetRate =
+                endpoint != null && endpoint.resetRate() != null ? endpoint.resetRate() : current.resetRate();
+        final var errorRate =
+                endpoint != null && endpoint.errorRate() != null ? endpoint.errorRate() : current.errorRate();
+        final var roll = random.nextDouble();
+        if (roll < resetRate) {
+            log.debug("Injecting a connection reset into {} {}", request.getMethod(), request.getRequestURI());
+            reset(response);
+        }
+        if (roll < resetRate + errorRate) {
+            final var status =
+                    endpoint != null && endpoint.errorStatus() != null ? endpoint.errorStatus() : current.errorStatus();
+            log.debug("Injecting a {} into {} {}", status, request.getMethod(), request.getRequestURI());
+            response.setStatus(status);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), Response.error("Injected fault"));
+            return false;
+        }
+        return true;
+    }
+
+    private EndpointFaults endpointFor(FaultProfile current, HttpServletRequest request) {
+        for (final var endpoint : current.endpoints()) {
+            if ((endpoint.method() == null || endpoint.method().equalsIgnoreCase(request.getMethod()))
+                    && pathMatcher.match(endpoint.path(), request.getRequestURI())) {
+                return endpoint;
+            }
+        }
+        return null;
+    }
+
+    private static void reset(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(RESET_CLAIMED_BYTES);
+        response.getOutputStream().write('{');
+        response.flushBuffer();
+        throw new InjectedResetException();
+    }
+
+    /**
+     * Thrown after a reset's partial response is committed, for the container to abort it. Exception handlers must let
+     * it through.
+     */
+    public static final class InjectedResetException extends IOException {
+
+        private InjectedResetException() {
+            super("Injected connection reset");
+        }
+    }
+}
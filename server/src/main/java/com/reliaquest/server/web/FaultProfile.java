@@ -0,0 +1,119 @@
+package com.reliaquest.server.web;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.random.RandomGenerator;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * How {@link FaultInjectionInterceptor} degrades requests: a latency distribution, the share of requests answered with
+ * an error status, and the share whose connection is dropped partway through the response. Each endpoint rule
+ * overrides any of these for the requests it matches; the first matching rule wins.
+ *
+ * <p>Bound from {@code mock.faults} at startup and replaceable at runtime through {@code /admin/faults}.
+ */
+@ConfigurationProperties("mock.faults")
+public record FaultProfile(
+        Latency latency, double errorRate, int errorStatus, double resetRate, List<EndpointFaults> endpoints) {
+
+    private static final int DEFAULT_ERROR_STATUS = 500;
+
+    public static final FaultProfile NONE = new FaultProfile(null, 0, 0, 0, null);
+
+    public FaultProfile {
+        latency = latency != null ? latency : Latency.NONE;
+        errorStatus = errorStatus != 0 ? errorStatus : DEFAULT_ERROR_STATUS;
+        endpoints = endpoints != null ? List.copyOf(endpoints) : List.of();
+        checkRates(errorRate, resetRate);
+    }
+
+    public boolean hasFaults() {
+        return latency.distribution() != Distribution.NONE || errorRate > 0 || resetRate > 0 || !endpoints.isEmpty();
+    }
+
+    /**
+     * An endpoint matches on its HTTP method, or any method when unset, and on an Ant-style path pattern. Unset values
+     * fall back to the profile's.
+     */
+    public record EndpointFaults(
+            String method,
+            String path,
+            Latency latency,
+            Double errorRate,
+            Integer errorStatus,
+            Double resetRate) {
+
+        public EndpointFaults {
+            if (path == null || path.isBlank()) {
+                throw new IllegalArgumentException("An endpoint fault needs a path");
+            }
+            checkRates(errorRate != null ? errorRate : 0, resetRate != null ? resetRate : 0);
+        }
+    }
+
+    /**
+     * fixed waits {@code mean}; normal draws around {@code mean} with {@code standardDeviation}; pareto draws from a
+     * long tail starting at {@code scale}, heavier the smaller {@code shape} is. Every draw is capped at {@code max}.
+     */
+    public record Latency(
+            Distribution distribution,
+            Duration mean,
+            Duration standardDeviation,
+            Duration scale,
+            double shape,
+            Duration max) {
+
+        private static final Duration DEFAULT_MAX = Duration.ofSeconds(30);
+
+        public static final Latency NONE = new Latency(null, null, null, null, 0, null);
+
+        public Latency {
+            distribution = distribution != null ? distribution : Distribution.NONE;
+            mean = mean != null ? mean : Duration.ZERO;
+            standardDeviation = standardDeviation != null ? standardDeviation : Duration.ZERO;
+            scale = scale != null ? scale : Duration.ZERO;
+            max = max != null ? max : DEFAULT_MAX;
+            if (distribution == Distribution.PARETO && !(shape > 0)) {
+                throw new IllegalArgumentException("A pareto latency needs a positive shape");
+            }
+        }
+
+        public long sampleNanos(RandomGenerator random) {
+            final var nanos =
+                    switch (distribution) {
+                        case NONE -> 0;
+                        case FIXED -> mean.toNanos();
+                        case NORMAL -> mean.toNanos() + standardDeviation.toNanos() * random.nextGaussian();
+                        // inverse transform; 1 - nextDouble() is in (0, 1]
+                        case PARETO -> scale.toNanos() * Math.pow(1 - random.nextDouble(), -1 / shape);
+                    };
+            return (long) Math.min(Math.max(0, nanos), max.toNanos());
+        }
+    }
+
+    public enum Distribution {
+        NONE,
+        FIXED,
+        NORMAL,
+        PARETO;
+
+        @JsonCreator
+        public static Distribution of(String value) {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        }
+
+        @JsonValue
+        public String getValue() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private static void checkRates(double errorRate, double resetRate) {
+        if (errorRate < 0 || resetRate < 0 || errorRate + resetRate > 1) {
+            throw new IllegalArgumentException("Error and reset rates must be between 0 and 1 and add up to at most 1");
+        }
+    }
+}
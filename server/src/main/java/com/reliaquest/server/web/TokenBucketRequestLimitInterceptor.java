@@ -0,0 +1,124 @@
+package com.reliaquest.server.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Per-client token bucket, implemented as a generic cell rate algorithm: each client has a single theoretical arrival
+ * time, advanced by one emission interval per admitted request with a compare-and-set. No locks, one clock read per
+ * request, and the same request pattern is always limited the same way.
+ *
+ * <p>Clients are told where they stand: every response carries {@code X-RateLimit-Remaining}, and a 429 carries
+ * {@code Retry-After} in whole seconds, rounded up.
+ */
+public class TokenBucketRequestLimitInterceptor implements HandlerInterceptor {
+
+    public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+
+    private static final int MAX_TRACKED_CLIENTS = 10_000;
+
+    private final long emissionIntervalNanos;
+
+    private final long burstToleranceNanos;
+
+    private final String clientHeader;
+
+    private final LongSupplier nanoClock;
+
+    private final ConcurrentMap<String, AtomicLong> arrivalTimes = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+
+    private volatile int sweepAbove = MAX_TRACKED_CLIENTS;
+
+    /**
+     * @param capacity requests a client can make at once after being idle
+     * @param refillPeriod time in which one request's worth of capacity comes back
+     * @param clientHeader header identifying the client, or null to use the remote address
+     */
+    public TokenBucketRequestLimitInterceptor(int capacity, Duration refillPeriod, String clientHeader) {
+        this(capacity, refillPeriod, clientHeader, System::nanoTime);
+    }
+
+    TokenBucketRequestLimitInterceptor(
+            int capacity, Duration refillPeriod, String clientHeader, LongSupplier nanoClock) {
+        if (capacity < 1 || refillPeriod.isNegative() || refillPeriod.isZero()) {
+            throw new IllegalArgumentException(
+                    "Token bucket needs a capacity of at least 1 and a positive refill period");
+        }
+        this.emissionIntervalNanos = refillPeriod.toNanos();
+        this.burstToleranceNanos = emissionIntervalNanos * (capacity - 1);
+        this.clientHeader = clientHeader;
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        final var now = nanoClock.getAsLong();
+        final var arrivalTime = arrivalTimes.computeIfAbsent(clientOf(request), ignored -> new AtomicLong(now));
+        while (true) {
+            final var current = arrivalTime.get();
+            final var next = Math.max(current, now) + emissionIntervalNanos;
+            final var excess = next - now - burstToleranceNanos - emissionIntervalNanos;
+            if (excess > 0) {
+                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+                response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(ceilSeconds(excess)));
+                response.setHeader(REMAINING_HEADER, "0");
+                return false;
+            }
+            if (arrivalTime.compareAndSet(current, next)) {
+                final var remaining =
+                        (now + burstToleranceNanos - (next - emissionIntervalNanos)) / emissionIntervalNanos;
+                response.setHeader(REMAINING_HEADER, String.valueOf(Math.max(0, remaining)));
+                evictIdleClients(now);
+                return true;
+            }
+        }
+    }
+
+    private String clientOf(HttpServletRequest request) {
+        if (clientHeader != null) {
+            final var client = request.getHeader(clientHeader);
+            if (client != null && !client.isBlank()) {
+                return client;
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    int trackedClients() {
+        return arrivalTimes.size();
+    }
+
+    /*
+     * A client whose arrival time has passed has a full bucket, which is what an absent entry means too. A request
+     * racing with its eviction may get one request of extra capacity, which is harmless. The next sweep waits until the
+     * map has doubled from what this one kept, so even when most clients stay active each sweep is paid for by as many
+     * new clients, and only one request runs it.
+     */
+    private void evictIdleClients(long now) {
+        if (arrivalTimes.size() <= sweepAbove || !sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            arrivalTimes.values().removeIf(arrivalTime -> arrivalTime.get() - now <= 0);
+            sweepAbove = Math.max(MAX_TRACKED_CLIENTS, 2 * arrivalTimes.size());
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    private static long ceilSeconds(long nanos) {
+        return Math.max(1, (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+}
@@ -0,0 +1,74 @@
+package com.reliaquest.server.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Locale;
+import java.util.OptionalInt;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeGeneratorTest {
+
+    private final MockEmployeeGenerator generator = new MockEmployeeGenerator(42, Locale.ENGLISH);
+
+    @Test
+    void generate_SameSeed_SameRosterWhateverTheParallelism() {
+        // Arrange
+        final var other = new MockEmployeeGenerator(42, Locale.ENGLISH);
+
+        // Act
+        final var parallel = generator.generate(0, 2000);
+        final var sequential =
+                IntStream.range(0, 2000).mapToObj(other::generate).toList();
+
+        // Assert
+        assertEquals(sequential, parallel);
+    }
+
+    @Test
+    void generate_DifferentSeed_DifferentRoster() {
+        // Arrange
+        final var other = new MockEmployeeGenerator(43, Locale.ENGLISH);
+
+        // Act & Assert
+        assertNotEquals(generator.generate(0, 100), other.generate(0, 100));
+    }
+
+    @Test
+    void generate_FillsEveryField() {
+        // Act
+        final var employee = generator.generate(7);
+
+        // Assert
+        assertEquals(generator.idOf(7), employee.getId());
+        assertEquals(generator.nameOf(7), employee.getName());
+        assertTrue(employee.getSalary() >= 30000 && employee.getSalary() < 500000);
+        assertTrue(employee.getAge() >= 16 && employee.getAge() < 70);
+        assertNotNull(employee.getTitle());
+        assertTrue(employee.getEmail().endsWith("@company.com"));
+    }
+
+    @Test
+    void idOf_IsVersion4AndRoundTripsThroughOrdinalOf() {
+        for (final var ordinal : new int[] {0, 1, 2, 1000, 123_456_789, Integer.MAX_VALUE}) {
+            // Act
+            final var id = generator.idOf(ordinal);
+
+            // Assert
+            assertEquals(4, id.version());
+            assertEquals(2, id.variant());
+            assertEquals(OptionalInt.of(ordinal), generator.ordinalOf(id));
+        }
+    }
+
+    @Test
+    void ordinalOf_ForeignIds_AreNotOrdinals() {
+        // Arrange
+        final var other = new MockEmployeeGenerator(43, Locale.ENGLISH);
+
+        // Act & Assert
+        assertTrue(generator.ordinalOf(UUID.randomUUID()).isEmpty());
+        assertTrue(generator.ordinalOf(other.idOf(5)).isEmpty());
+    }
+}
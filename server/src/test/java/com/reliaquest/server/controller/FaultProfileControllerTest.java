@@ -0,0 +1,102 @@
+package com.reliaquest.server.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.reliaquest.server.web.FaultInjectionInterceptor;
+import com.reliaquest.server.web.FaultProfile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+@WebMvcTest(controllers = FaultProfileController.class)
+class FaultProfileControllerTest {
+
+    private static final String FAULTS_PATH = "/admin/faults";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private FaultInjectionInterceptor faultInjectionInterceptor;
+
+    @AfterEach
+    void clearFaults() {
+        faultInjectionInterceptor.setProfile(FaultProfile.NONE);
+    }
+
+    @Test
+    void setFaultProfile_Valid_ReplacesTheCurrentProfile() throws Exception {
+        // Act
+        final var result = putJson("{\"errorRate\":0.25,\"errorStatus\":503,\"resetRate\":0.5}");
+
+        // Assert
+        result.andExpect(status().isOk()).andExpect(jsonPath("$.data.errorRate").value(0.25));
+        final var profile = faultInjectionInterceptor.getProfile();
+        assertEquals(0.25, profile.errorRate());
+        assertEquals(503, profile.errorStatus());
+        assertEquals(0.5, profile.resetRate());
+        mockMvc.perform(get(FAULTS_PATH))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.resetRate").value(0.5));
+    }
+
+    @Test
+    void setFaultProfile_RatesAboveOne_IsBadRequestAndKeepsTheCurrentProfile() throws Exception {
+        // Arrange
+        final var current = new FaultProfile(null, 0.1, 0, 0, null);
+        faultInjectionInterceptor.setProfile(current);
+
+        // Act & Assert
+        putJson("{\"errorRate\":0.6,\"resetRate\":0.5}")
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").exists());
+        putJson("{\"endpoints\":[{\"path\":\"/api/**\",\"errorRate\":0.7,\"resetRate\":0.7}]}")
+                .andExpect(status().isBadRequest());
+        assertSame(current, faultInjectionInterceptor.getProfile());
+    }
+
+    @Test
+    void setFaultProfile_Unparseable_IsBadRequestAndKeepsTheCurrentProfile() throws Exception {
+        // Arrange
+        final var current = new FaultProfile(null, 0.1, 0, 0, null);
+        faultInjectionInterceptor.setProfile(current);
+
+        // Act & Assert
+        putJson("{\"latency\":{\"distribution\":\"uniform\"}}").andExpect(status().isBadRequest());
+        assertSame(current, faultInjectionInterceptor.getProfile());
+    }
+
+    @Test
+    void clearFaultProfile_RemovesEveryFault() throws Exception {
+        // Arrange
+        faultInjectionInterceptor.setProfile(new FaultProfile(null, 0.1, 0, 0.1, null));
+
+        // Act & Assert
+        mockMvc.perform(delete(FAULTS_PATH)).andExpect(status().isOk());
+        assertSame(FaultProfile.NONE, faultInjectionInterceptor.getProfile());
+    }
+
+    @Test
+    void getFaultProfile_EveryRequestFaulted_IsStillServed() throws Exception {
+        // Arrange: the admin endpoints are excluded from fault injection
+        faultInjectionInterceptor.setProfile(new FaultProfile(null, 1, 0, 0, null));
+
+        // Act & Assert
+        mockMvc.perform(get(FAULTS_PATH))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.errorRate").value(1.0));
+    }
+
+    private ResultActions putJson(String body) throws Exception {
+        return mockMvc.perform(put(FAULTS_PATH).contentType(MediaType.APPLICATION_JSON).content(body));
+    }
+}
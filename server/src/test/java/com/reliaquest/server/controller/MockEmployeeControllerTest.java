@@ -0,0 +1,189 @@
+package com.reliaquest.server.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.store.EmployeeStore;
+import com.reliaquest.server.store.SegmentedEmployeeStore;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+@WebMvcTest(
+        controllers = MockEmployeeController.class,
+        properties = {"mock.rate-limit.mode=token-bucket", "mock.rate-limit.capacity=100000"})
+@Import(MockEmployeeService.class)
+class MockEmployeeControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @SpyBean
+    private EmployeeStore employeeStore;
+
+    @Test
+    void createEmployees_ValidList_IsOneStoreMutation() throws Exception {
+        // Act
+        final var result = postJson("/api/v1/employee/bulk", "[%s,%s]".formatted(input("Ann Bulk"), input("Bob Bulk")));
+
+        // Assert
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andExpect(jsonPath("$.data[0].employee_name").value("Ann Bulk"))
+                .andExpect(jsonPath("$.data[1].employee_name").value("Bob Bulk"));
+        verify(employeeStore).addAll(anyList());
+        verify(employeeStore, never()).add(any());
+    }
+
+    @Test
+    void createEmployees_OneInvalidItem_RejectsTheWholeList() throws Exception {
+        // Arrange: the second input is too young
+        final var body = "[%s,%s]".formatted(input("Cy Invalid"), input("Di Invalid", 3));
+
+        // Act
+        final var result = postJson("/api/v1/employee/bulk", body);
+
+        // Assert
+        result.andExpect(status().isBadRequest()).andExpect(jsonPath("$.error").exists());
+        verify(employeeStore, never()).addAll(anyList());
+    }
+
+    @Test
+    void createEmployees_EmptyOrTooLong_IsBadRequest() throws Exception {
+        // Arrange
+        final var tooLong = IntStream.rangeClosed(0, MockEmployeeController.MAX_BULK_ITEMS)
+                .mapToObj(i -> input("Too Long " + i))
+                .collect(Collectors.joining(",", "[", "]"));
+
+        // Act & Assert
+        postJson("/api/v1/employee/bulk", "[]").andExpect(status().isBadRequest());
+        postJson("/api/v1/employee/bulk", tooLong).andExpect(status().isBadRequest());
+        verify(employeeStore, never()).addAll(anyList());
+    }
+
+    @Test
+    void deleteEmployees_MixedNames_ResultsLineUpWithTheInputs() throws Exception {
+        // Arrange
+        postJson("/api/v1/employee/bulk", "[%s,%s]".formatted(input("Ed Delete"), input("Flo Delete")))
+                .andExpect(status().isOk());
+
+        // Act
+        final var result = deleteJson(
+                "/api/v1/employee/bulk", "[{\"name\":\"ed delete\"},{\"name\":\"Nobody\"},{\"name\":\"Flo Delete\"}]");
+
+        // Assert
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(3))
+                .andExpect(jsonPath("$.data[0]").value(true))
+                .andExpect(jsonPath("$.data[1]").value(false))
+                .andExpect(jsonPath("$.data[2]").value(true));
+        verify(employeeStore).removeFirstByNames(List.of("ed delete", "Nobody", "Flo Delete"));
+        verify(employeeStore, never()).removeFirstByName(any());
+    }
+
+    @Test
+    void deleteEmployees_OneBlankNameOrTooLong_RejectsTheWholeList() throws Exception {
+        // Arrange
+        final var tooLong = IntStream.rangeClosed(0, MockEmployeeController.MAX_BULK_ITEMS)
+                .mapToObj(i -> "{\"name\":\"Too Long %d\"}".formatted(i))
+                .collect(Collectors.joining(",", "[", "]"));
+
+        // Act & Assert
+        deleteJson("/api/v1/employee/bulk", "[{\"name\":\"Gil Delete\"},{\"name\":\" \"}]")
+                .andExpect(status().isBadRequest());
+        deleteJson("/api/v1/employee/bulk", tooLong).andExpect(status().isBadRequest());
+        verify(employeeStore, never()).removeFirstByNames(anyList());
+    }
+
+    @Test
+    void getEmployees_KnownAndUnknownIds_ReturnsTheKnownOnesInRequestOrder() throws Exception {
+        // Arrange
+        final var created = objectMapper.readTree(
+                postJson("/api/v1/employee/bulk", "[%s,%s]".formatted(input("Hal Batch"), input("Ida Batch")))
+                        .andExpect(status().isOk())
+                        .andReturn()
+                        .getResponse()
+                        .getContentAsString());
+        final var hal = created.at("/data/0/id").asText();
+        final var ida = created.at("/data/1/id").asText();
+        final var body = objectMapper.writeValueAsString(List.of(ida, UUID.randomUUID(), hal, UUID.randomUUID()));
+
+        // Act
+        final var result = postJson("/api/v1/employee/batch-get", body);
+
+        // Assert
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andExpect(jsonPath("$.data[0].id").value(ida))
+                .andExpect(jsonPath("$.data[0].employee_name").value("Ida Batch"))
+                .andExpect(jsonPath("$.data[1].id").value(hal))
+                .andExpect(jsonPath("$.data[1].employee_name").value("Hal Batch"));
+    }
+
+    @Test
+    void getEmployees_EmptyOrMoreThanMaxIds_IsBadRequest() throws Exception {
+        // Arrange
+        final var ids = IntStream.rangeClosed(0, MockEmployeeController.MAX_BATCH_GET_IDS)
+                .mapToObj(i -> UUID.randomUUID())
+                .toList();
+        final var tooMany = objectMapper.writeValueAsString(ids);
+
+        // Act & Assert
+        postJson("/api/v1/employee/batch-get", "[]").andExpect(status().isBadRequest());
+        postJson("/api/v1/employee/batch-get", tooMany).andExpect(status().isBadRequest());
+    }
+
+    private ResultActions postJson(String path, String body) throws Exception {
+        return mockMvc.perform(post(path).contentType(MediaType.APPLICATION_JSON).content(body));
+    }
+
+    private ResultActions deleteJson(String path, String body) throws Exception {
+        return mockMvc.perform(delete(path).contentType(MediaType.APPLICATION_JSON).content(body));
+    }
+
+    private static String input(String name) {
+        return input(name, 30);
+    }
+
+    private static String input(String name, int age) {
+        return "{\"name\":\"%s\",\"salary\":50000,\"age\":%d,\"title\":\"Engineer\"}".formatted(name, age);
+    }
+
+    @TestConfiguration
+    static class StoreConfiguration {
+
+        @Bean
+        Faker faker() {
+            return new Faker(Locale.ROOT);
+        }
+
+        @Bean
+        EmployeeStore employeeStore() {
+            return new SegmentedEmployeeStore(List.of());
+        }
+    }
+}
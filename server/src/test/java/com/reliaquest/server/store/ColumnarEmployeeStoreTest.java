@@ -0,0 +1,126 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class ColumnarEmployeeStoreTest extends EmployeeStoreContractTest {
+
+    @Override
+    EmployeeStore newStore(List<MockEmployee> initialEmployees) {
+        return new ColumnarEmployeeStore(initialEmployees);
+    }
+
+    @Test
+    void findById_MaterializesEveryColumn() {
+        // Arrange
+        final var full = employee(1, "Zo\u00EB \u00C5ngstr\u00F6m \u674E");
+        final var sparse = MockEmployee.builder().id(new UUID(0, 2)).build();
+        final var store = new ColumnarEmployeeStore(List.of(full, sparse));
+
+        // Act & Assert
+        assertEquals(full, store.findById(full.getId()).orElseThrow());
+        assertEquals(sparse, store.findById(sparse.getId()).orElseThrow());
+        assertEquals(List.of(full, sparse), new ArrayList<>(store.snapshot()));
+    }
+
+    @Test
+    void add_LongTextBeyondChunkBuffer_IsKeptIntact() {
+        // Arrange
+        final var store = new ColumnarEmployeeStore(List.of());
+        final var employees = new ArrayList<MockEmployee>();
+        for (int i = 0; i < 100; i++) {
+            employees.add(employee(i, "Employee " + "x".repeat(i * 100)));
+        }
+
+        // Act
+        employees.forEach(store::add);
+
+        // Assert
+        assertEquals(employees, new ArrayList<>(store.snapshot()));
+    }
+
+    @Test
+    void addAll_EmployeeWithoutId_IsRejectedAndStoreUnchanged() {
+        // Arrange
+        final var store = new ColumnarEmployeeStore(List.of(employee(1, "Ann Lee")));
+        final var withoutId = MockEmployee.builder().name("Bob Ray").build();
+
+        // Act & Assert
+        assertThrows(NullPointerException.class, () -> store.addAll(List.of(employee(2, "Cy Po"), withoutId)));
+        assertEquals(List.of("Ann Lee"), names(store.snapshot()));
+        assertTrue(store.removeFirstByName("Cy Po").isEmpty());
+    }
+
+    @Test
+    void removeFirstByName_FoldedHashCollision_MatchesOnlyTheName() {
+        // Arrange: "a@" and "b!" share a String hash code, and folding leaves both unchanged
+        final var store = new ColumnarEmployeeStore(List.of(employee(1, "a@"), employee(2, "b!")));
+        store.add(employee(3, "A@"));
+
+        // Act & Assert
+        assertEquals(new UUID(0, 2), store.removeFirstByName("B!").orElseThrow().getId());
+        assertEquals(new UUID(0, 1), store.removeFirstByName("a@").orElseThrow().getId());
+        assertTrue(store.removeFirstByName("b!").isEmpty());
+        store.add(employee(4, "b!"));
+        assertEquals(new UUID(0, 3), store.removeFirstByName("a@").orElseThrow().getId());
+        assertEquals(new UUID(0, 4), store.removeFirstByName("b!").orElseThrow().getId());
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    void removeFirstByNames_ManyDistinctNames_FindsEachAfterTheIndexGrows() {
+        // Arrange: indexed on the first delete, then grown by the appends after it
+        final var store = new ColumnarEmployeeStore(List.of(employee(0, "Name 0")));
+        store.removeFirstByName("Nobody");
+        final var names = new ArrayList<String>();
+        for (int i = 1; i <= 1000; i++) {
+            store.add(employee(i, "Name " + i));
+            names.add("name " + (1001 - i));
+        }
+
+        // Act
+        final var removed = store.removeFirstByNames(names);
+
+        // Assert
+        for (int i = 0; i < removed.size(); i++) {
+            assertEquals(new UUID(0, 1000 - i), removed.get(i).orElseThrow().getId());
+        }
+        assertEquals(List.of("Name 0"), names(store.snapshot()));
+    }
+
+    @Test
+    void removeFirstByName_PastCompactionThreshold_RebuildsDenselyAndKeepsSnapshots() {
+        // Arrange: tombstones must outnumber both live rows and one chunk before the store compacts
+        final var total = 3 * ColumnarEmployeeStore.CHUNK_SIZE;
+        final var initial = new ArrayList<MockEmployee>(total);
+        for (int i = 0; i < total; i++) {
+            initial.add(employee(i, "Employee " + i));
+        }
+        final var store = new ColumnarEmployeeStore(initial);
+        final var deletes = total / 2 + 1;
+        for (int i = 0; i < deletes - 1; i++) {
+            store.removeFirstByName("Employee " + i);
+        }
+        final var beforeCompaction = store.snapshot();
+
+        // Act
+        store.removeFirstByName("Employee " + (deletes - 1));
+        store.add(employee(total, "Employee " + (deletes - 1)));
+
+        // Assert
+        assertEquals(total - deletes + 1, beforeCompaction.size());
+        assertEquals("Employee " + (deletes - 1), names(beforeCompaction).get(0));
+        final var after = names(store.snapshot());
+        assertEquals(total - deletes + 1, after.size());
+        assertEquals("Employee " + deletes, after.get(0));
+        assertEquals("Employee " + (deletes - 1), after.get(after.size() - 1));
+        assertTrue(store.findById(new UUID(0, deletes - 1)).isEmpty());
+        assertEquals("Employee " + deletes, store.findById(new UUID(0, deletes)).orElseThrow().getName());
+        assertEquals(new UUID(0, total), store.removeFirstByName("employee " + (deletes - 1)).orElseThrow().getId());
+    }
+}
@@ -0,0 +1,94 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DurableEmployeeStoreTest extends EmployeeStoreContractTest {
+
+    @TempDir
+    Path directory;
+
+    private final List<DurableEmployeeStore> opened = new ArrayList<>();
+
+    @Override
+    EmployeeStore newStore(List<MockEmployee> initialEmployees) {
+        try {
+            final var log = WriteAheadLog.open(directory.resolve("wal-" + opened.size()), 0, store());
+            final var store = new DurableEmployeeStore(
+                    new SegmentedEmployeeStore(initialEmployees), log, null, Long.MAX_VALUE);
+            opened.add(store);
+            return store;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @AfterEach
+    void closeStores() throws IOException {
+        for (final var store : opened) {
+            store.close();
+        }
+    }
+
+    @Test
+    void close_ThenReplay_RebuildsFromTheSnapshotAndLog() throws IOException {
+        // Arrange
+        final var walDirectory = directory.resolve("wal");
+        final var snapshotPath = directory.resolve("roster.snapshot");
+        final var store = new DurableEmployeeStore(
+                store(), WriteAheadLog.open(walDirectory, 0, store()), snapshotPath, Long.MAX_VALUE);
+        store.addAll(List.of(employee(1, "Ann Lee"), employee(2, "Bob Ray")));
+        store.removeFirstByName("Ann Lee");
+
+        // Act
+        store.close();
+        final var roster = MappedRoster.open(snapshotPath);
+        final var reopened = store();
+        WriteAheadLog.open(walDirectory, roster.getSequence(), reopened).close();
+
+        // Assert
+        assertEquals(2, roster.getSequence());
+        assertEquals(1, roster.size());
+        assertEquals("Bob Ray", roster.nameOf(0));
+        assertEquals(0, reopened.size());
+    }
+
+    @Test
+    void addAll_AfterLogFailure_RejectsEveryOperationAndSkipsCompaction() throws IOException {
+        // Arrange: the segment after the first rotation is a device where every write fails
+        final var full = Path.of("/dev/full");
+        Assumptions.assumeTrue(Files.isWritable(full));
+        final var walDirectory = directory.resolve("wal");
+        final var snapshotPath = directory.resolve("roster.snapshot");
+        final var log = WriteAheadLog.open(walDirectory, 0, store());
+        final var store = new DurableEmployeeStore(store(), log, snapshotPath, Long.MAX_VALUE);
+        store.add(employee(1, "Ann Lee"));
+        Files.createSymbolicLink(walDirectory.resolve("%020d.wal".formatted(2)), full);
+        log.rotate().join();
+
+        // Act
+        assertThrows(UncheckedIOException.class, () -> store.add(employee(2, "Bob Ray")));
+
+        // Assert
+        assertThrows(UncheckedIOException.class, store::snapshot);
+        assertThrows(UncheckedIOException.class, () -> store.findById(employee(1, "Ann Lee").getId()));
+        assertThrows(UncheckedIOException.class, () -> store.removeFirstByName("Ann Lee"));
+        store.close();
+        assertFalse(Files.exists(snapshotPath));
+    }
+
+    private static EmployeeStore store() {
+        return new SegmentedEmployeeStore(List.of());
+    }
+}
@@ -0,0 +1,229 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Behaviour every {@link EmployeeStore} must share, run against each implementation by a subclass.
+ */
+abstract class EmployeeStoreContractTest {
+
+    abstract EmployeeStore newStore(List<MockEmployee> initialEmployees);
+
+    static MockEmployee employee(int number, String name) {
+        return MockEmployee.builder()
+                .id(new UUID(0, number))
+                .name(name)
+                .salary(30000 + number)
+                .age(20 + number % 50)
+                .title("Engineer")
+                .email("employee" + number + "@company.com")
+                .build();
+    }
+
+    static List<String> names(Iterable<MockEmployee> employees) {
+        final var names = new ArrayList<String>();
+        employees.forEach(employee -> names.add(employee.getName()));
+        return names;
+    }
+
+    @Test
+    void snapshot_KeepsInsertionOrder() {
+        // Arrange
+        final var store = newStore(List.of(employee(1, "Ann Lee"), employee(2, "Bob Ray")));
+
+        // Act
+        store.add(employee(3, "Cy Po"));
+        store.addAll(List.of(employee(4, "Dee Wu"), employee(5, "Eve Ng")));
+
+        // Assert
+        assertEquals(List.of("Ann Lee", "Bob Ray", "Cy Po", "Dee Wu", "Eve Ng"), names(store.snapshot()));
+        assertEquals(5, store.size());
+    }
+
+    @Test
+    void findById_FindsInitialAndAddedEmployees() {
+        // Arrange
+        final var store = newStore(List.of(employee(1, "Ann Lee")));
+        store.add(employee(2, "Bob Ray"));
+
+        // Act & Assert
+        assertEquals("Ann Lee", store.findById(new UUID(0, 1)).orElseThrow().getName());
+        assertEquals("Bob Ray", store.findById(new UUID(0, 2)).orElseThrow().getName());
+        assertTrue(store.findById(new UUID(0, 3)).isEmpty());
+    }
+
+    @Test
+    void removeFirstByName_RemovesFirstMatchIgnoringCase() {
+        // Arrange
+        final var store = newStore(List.of(employee(1, "Ann Lee"), employee(2, "Bob Ray"), employee(3, "ann lee")));
+
+        // Act
+        final var removed = store.removeFirstByName("ANN LEE");
+
+        // Assert
+        assertEquals(new UUID(0, 1), removed.orElseThrow().getId());
+        assertEquals(List.of("Bob Ray", "ann lee"), names(store.snapshot()));
+        assertTrue(store.findById(new UUID(0, 1)).isEmpty());
+        assertEquals(2, store.size());
+    }
+
+    @Test
+    void removeFirstByName_UnknownName_ReturnsEmpty() {
+        // Arrange
+        final var store = newStore(List.of(employee(1, "Ann Lee")));
+
+        // Act & Assert
+        assertTrue(store.removeFirstByName("Nobody").isEmpty());
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void removeFirstByNames_ResolvesEachNameInOrder() {
+        // Arrange
+        final var store = newStore(List.of(employee(1, "Ann Lee"), employee(2, "Ann Lee"), employee(3, "Bob Ray")));
+
+        // Act
+        final var removed = store.removeFirstByNames(List.of("ann lee", "Nobody", "ann lee", "ann lee"));
+
+        // Assert
+        assertEquals(Optional.of(new UUID(0, 1)), removed.get(0).map(MockEmployee::getId));
+        assertTrue(removed.get(1).isEmpty());
+        assertEquals(Optional.of(new UUID(0, 2)), removed.get(2).map(MockEmployee::getId));
+        assertTrue(removed.get(3).isEmpty());
+        assertEquals(List.of("Bob Ray"), names(store.snapshot()));
+    }
+
+    @Test
+    void add_AfterRemovingName_AppendsAtTheEnd() {
+        // Arrange
+        final var store = newStore(List.of(employee(1, "Ann Lee"), employee(2, "Bob Ray")));
+        store.removeFirstByName("Ann Lee");
+
+        // Act
+        store.add(employee(3, "Ann Lee"));
+
+        // Assert
+        assertEquals(List.of("Bob Ray", "Ann Lee"), names(store.snapshot()));
+        assertEquals(new UUID(0, 3), store.removeFirstByName("ann lee").orElseThrow().getId());
+    }
+
+    @Test
+    void snapshot_DoesNotSeeLaterMutations() {
+        // Arrange
+        final var store = newStore(List.of(employee(1, "Ann Lee"), employee(2, "Bob Ray")));
+        final var snapshot = store.snapshot();
+
+        // Act
+        store.add(employee(3, "Cy Po"));
+        store.removeFirstByName("Ann Lee");
+
+        // Assert
+        assertEquals(List.of("Ann Lee", "Bob Ray"), names(snapshot));
+        assertEquals(2, snapshot.size());
+        assertEquals(List.of("Bob Ray", "Cy Po"), names(store.snapshot()));
+    }
+
+    @Test
+    void removals_ManyDeletes_KeepOrderAndIdsAcrossCompaction() {
+        // Arrange
+        final var initial = new ArrayList<MockEmployee>();
+        for (int i = 0; i < 5000; i++) {
+            initial.add(employee(i, "Employee " + i));
+        }
+        final var store = newStore(initial);
+
+        // Act: far more empty slots than employees, whatever the implementation's compaction threshold
+        for (int i = 0; i < 5000; i++) {
+            if (i % 10 != 0) {
+                assertTrue(store.removeFirstByName("employee " + i).isPresent());
+            }
+        }
+        store.add(employee(5000, "Employee 5000"));
+
+        // Assert
+        final var expected = new ArrayList<String>();
+        for (int i = 0; i <= 5000; i += 10) {
+            expected.add("Employee " + i);
+        }
+        assertEquals(expected, names(store.snapshot()));
+        assertEquals(expected.size(), store.size());
+        for (int i = 0; i <= 5000; i++) {
+            assertEquals(i % 10 == 0, store.findById(new UUID(0, i)).isPresent(), "employee " + i);
+        }
+        assertEquals(new UUID(0, 10), store.removeFirstByName("EMPLOYEE 10").orElseThrow().getId());
+    }
+
+    @Test
+    void snapshot_UnderConcurrentWriters_IsAlwaysConsistent() throws Exception {
+        // Arrange: every writer adds its own employees and then deletes half of them again
+        final var writers = 4;
+        final var perWriter = 2000;
+        final var store = newStore(List.of(employee(-1, "Sentinel")));
+        final var stop = new AtomicBoolean();
+        final var failures = new ConcurrentLinkedQueue<Throwable>();
+        final var done = new CountDownLatch(writers);
+
+        final var reader = new Thread(() -> {
+            try {
+                while (!stop.get()) {
+                    final var snapshot = store.snapshot();
+                    final var first = names(snapshot);
+                    // the same snapshot read twice, with writers busy in between, must not change
+                    assertEquals(first, names(snapshot));
+                    assertEquals(first.size(), snapshot.size());
+                    assertEquals(first.size(), new HashSet<>(first).size(), "duplicate employee in a snapshot");
+                    assertEquals("Sentinel", first.get(0));
+                }
+            } catch (Throwable t) {
+                failures.add(t);
+            }
+        });
+        reader.start();
+
+        // Act
+        for (int w = 0; w < writers; w++) {
+            final var writer = w;
+            new Thread(() -> {
+                        try {
+                            for (int i = 0; i < perWriter; i++) {
+                                final var number = writer * perWriter + i;
+                                store.add(employee(number, "Writer " + writer + " employee " + i));
+                                if (i % 2 == 1) {
+                                    final var name = "writer " + writer + " employee " + (i - 1);
+                                    assertTrue(store.removeFirstByName(name).isPresent());
+                                }
+                            }
+                        } catch (Throwable t) {
+                            failures.add(t);
+                        } finally {
+                            done.countDown();
+                        }
+                    })
+                    .start();
+        }
+        assertTrue(done.await(60, TimeUnit.SECONDS));
+        stop.set(true);
+        reader.join();
+
+        // Assert
+        assertTrue(failures.isEmpty(), () -> "concurrent access failed: " + failures);
+        assertEquals(1 + writers * perWriter / 2, store.size());
+        for (int w = 0; w < writers; w++) {
+            for (int i = 0; i < perWriter; i++) {
+                assertEquals(i % 2 == 1, store.findById(new UUID(0, w * perWriter + i)).isPresent());
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.config.MockEmployeeGenerator;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class LazyEmployeeStoreTest extends EmployeeStoreContractTest {
+
+    private final MockEmployeeGenerator generator = new MockEmployeeGenerator(42, Locale.ENGLISH);
+
+    @Override
+    EmployeeStore newStore(List<MockEmployee> initialEmployees) {
+        return new LazyEmployeeStore(new ListRoster(initialEmployees));
+    }
+
+    @Test
+    void findById_GeneratedRoster_RoundTripsOrdinalsAndIds() {
+        // Arrange
+        final var store = new LazyEmployeeStore(new GeneratedRoster(generator, 1000));
+
+        // Act & Assert
+        for (final var ordinal : new int[] {0, 1, 500, 999}) {
+            final var employee = store.findById(generator.idOf(ordinal)).orElseThrow();
+            assertEquals(generator.generate(ordinal), employee);
+        }
+        // a valid id of this generator, but past the end of the roster
+        assertTrue(store.findById(generator.idOf(1000)).isEmpty());
+        assertTrue(store.findById(UUID.randomUUID()).isEmpty());
+        assertEquals(1000, store.size());
+    }
+
+    @Test
+    void findById_GeneratedRosterAfterWrites_SeesDeletesAndCreates() {
+        // Arrange
+        final var store = new LazyEmployeeStore(new GeneratedRoster(generator, 1000));
+        final var created = employee(5, "Created Later");
+
+        // Act
+        final var removed = store.removeFirstByName(generator.nameOf(10)).orElseThrow();
+        store.add(created);
+
+        // Assert
+        assertTrue(store.findById(removed.getId()).isEmpty());
+        assertEquals(created, store.findById(created.getId()).orElseThrow());
+        assertEquals(1000, store.size());
+        assertEquals(created, List.copyOf(store.snapshot()).get(999));
+    }
+
+    @Test
+    void removeFirstByName_HashCollision_MatchesOnlyTheName() {
+        // Arrange: "a@" and "b!" share a String hash code, and folding leaves both unchanged
+        final var store = newStore(List.of(employee(1, "a@"), employee(2, "b!"), employee(3, "A@")));
+
+        // Act & Assert
+        assertEquals(new UUID(0, 2), store.removeFirstByName("B!").orElseThrow().getId());
+        assertEquals(new UUID(0, 1), store.removeFirstByName("a@").orElseThrow().getId());
+        assertTrue(store.removeFirstByName("b!").isEmpty());
+        assertEquals(List.of("A@"), names(store.snapshot()));
+    }
+
+    @Test
+    void removeFirstByNames_OrdinalsOutOfOrderAcrossBatches_SkipsExactlyThoseDeleted() {
+        // Arrange
+        final var store = newStore(List.of(
+                employee(0, "E0"), employee(1, "E1"), employee(2, "E2"), employee(3, "E3"), employee(4, "E4"),
+                employee(5, "E5"), employee(6, "E6")));
+        store.removeFirstByNames(List.of("E5", "E1"));
+
+        // Act
+        store.removeFirstByNames(List.of("E6", "E0", "E3"));
+
+        // Assert
+        assertEquals(List.of("E2", "E4"), names(store.snapshot()));
+        assertEquals(2, store.size());
+        assertTrue(store.findById(new UUID(0, 3)).isEmpty());
+        assertEquals("E4", store.findById(new UUID(0, 4)).orElseThrow().getName());
+    }
+
+    @Test
+    void removeFirstByName_RosterExhausted_FallsThroughToCreated() {
+        // Arrange
+        final var store = newStore(List.of(employee(1, "Ann Lee")));
+        store.add(employee(2, "Ann Lee"));
+
+        // Act & Assert
+        assertEquals(new UUID(0, 1), store.removeFirstByName("Ann Lee").orElseThrow().getId());
+        assertEquals(new UUID(0, 2), store.removeFirstByName("Ann Lee").orElseThrow().getId());
+        assertTrue(store.removeFirstByName("Ann Lee").isEmpty());
+        assertEquals(0, store.size());
+    }
+
+    /**
+     * A roster over a list, to run the store contract against known employees.
+     */
+    private static final class ListRoster implements Roster {
+
+        private final List<MockEmployee> employees;
+        private final Map<UUID, Integer> ordinals = new HashMap<>();
+
+        private ListRoster(List<MockEmployee> employees) {
+            this.employees = List.copyOf(employees);
+            for (int i = 0; i < employees.size(); i++) {
+                ordinals.putIfAbsent(employees.get(i).getId(), i);
+            }
+        }
+
+        @Override
+        public int size() {
+            return employees.size();
+        }
+
+        @Override
+        public MockEmployee get(int ordinal) {
+            return employees.get(ordinal);
+        }
+
+        @Override
+        public String nameOf(int ordinal) {
+            return employees.get(ordinal).getName();
+        }
+
+        @Override
+        public OptionalInt ordinalOf(UUID id) {
+            final var ordinal = ordinals.get(id);
+            return ordinal == null ? OptionalInt.empty() : OptionalInt.of(ordinal);
+        }
+    }
+}
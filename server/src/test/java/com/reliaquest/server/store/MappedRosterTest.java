@@ -0,0 +1,102 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedRosterTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void writeThenOpen_RoundTripsEveryEmployeeInOrder() throws IOException {
+        // Arrange
+        final var employees = new ArrayList<MockEmployee>();
+        for (int i = 0; i < 1000; i++) {
+            employees.add(EmployeeStoreContractTest.employee(i, "Employee " + i));
+        }
+        employees.add(MockEmployee.builder().id(new UUID(7, 7)).build());
+        employees.add(EmployeeStoreContractTest.employee(1001, "Zo\u00EB \u674E"));
+        final var path = directory.resolve("roster.snapshot");
+
+        // Act
+        MappedRoster.write(employees, path, 42);
+        final var roster = MappedRoster.open(path);
+
+        // Assert
+        assertEquals(employees.size(), roster.size());
+        assertEquals(42, roster.getSequence());
+        for (int ordinal = 0; ordinal < employees.size(); ordinal++) {
+            final var employee = employees.get(ordinal);
+            assertEquals(employee, roster.get(ordinal));
+            assertEquals(employee.getName(), roster.nameOf(ordinal));
+            assertEquals(OptionalInt.of(ordinal), roster.ordinalOf(employee.getId()));
+        }
+        assertTrue(roster.ordinalOf(UUID.randomUUID()).isEmpty());
+        assertFalse(Files.exists(directory.resolve("roster.snapshot.tmp")));
+    }
+
+    @Test
+    void writeThenOpen_EmptyRoster() throws IOException {
+        // Arrange
+        final var path = directory.resolve("roster.snapshot");
+
+        // Act
+        MappedRoster.write(List.of(), path);
+        final var roster = MappedRoster.open(path);
+
+        // Assert
+        assertEquals(0, roster.size());
+        assertEquals(0, roster.getSequence());
+        assertTrue(roster.ordinalOf(new UUID(0, 1)).isEmpty());
+    }
+
+    @Test
+    void write_OverMappedFile_LeavesOpenRosterReadable() throws IOException {
+        // Arrange
+        final var path = directory.resolve("roster.snapshot");
+        MappedRoster.write(List.of(EmployeeStoreContractTest.employee(1, "Ann Lee")), path);
+        final var before = MappedRoster.open(path);
+
+        // Act
+        MappedRoster.write(List.of(EmployeeStoreContractTest.employee(2, "Bob Ray")), path);
+
+        // Assert
+        assertEquals("Ann Lee", before.get(0).getName());
+        assertEquals("Bob Ray", MappedRoster.open(path).get(0).getName());
+    }
+
+    @Test
+    void open_NotASnapshot_Throws() throws IOException {
+        // Arrange
+        final var path = directory.resolve("roster.snapshot");
+        Files.writeString(path, "definitely not a roster snapshot");
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> MappedRoster.open(path));
+    }
+
+    @Test
+    void open_TruncatedSnapshot_Throws() throws IOException {
+        // Arrange
+        final var path = directory.resolve("roster.snapshot");
+        MappedRoster.write(List.of(EmployeeStoreContractTest.employee(1, "Ann Lee")), path);
+        try (final var channel = Files.newByteChannel(path, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 1);
+        }
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> MappedRoster.open(path));
+    }
+}
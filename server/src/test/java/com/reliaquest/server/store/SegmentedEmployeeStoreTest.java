@@ -0,0 +1,45 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class SegmentedEmployeeStoreTest extends EmployeeStoreContractTest {
+
+    @Override
+    EmployeeStore newStore(List<MockEmployee> initialEmployees) {
+        return new SegmentedEmployeeStore(initialEmployees);
+    }
+
+    @Test
+    void removeFirstByName_PastCompactionThreshold_SnapshotTakenBeforeKeepsOldNumbering() {
+        // Arrange: exactly enough deletes for the last one to trigger a compaction
+        final var total = 3 * SegmentedEmployeeStore.SEGMENT_SIZE;
+        final var initial = new ArrayList<MockEmployee>();
+        for (int i = 0; i < total; i++) {
+            initial.add(employee(i, "Employee " + i));
+        }
+        final var store = new SegmentedEmployeeStore(initial);
+        final var deletes = total / 2 + 1;
+        for (int i = 0; i < deletes - 1; i++) {
+            store.removeFirstByName("Employee " + i);
+        }
+        final var beforeCompaction = store.snapshot();
+
+        // Act
+        store.removeFirstByName("Employee " + (deletes - 1));
+
+        // Assert
+        assertEquals(total - deletes + 1, beforeCompaction.size());
+        assertEquals("Employee " + (deletes - 1), names(beforeCompaction).get(0));
+        assertEquals("Employee " + deletes, names(store.snapshot()).get(0));
+        assertEquals(total - deletes, store.size());
+        assertEquals(
+                "Employee " + (total - 1),
+                store.findById(new UUID(0, total - 1)).orElseThrow().getName());
+    }
+}
@@ -0,0 +1,236 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class WriteAheadLogTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void appendThenOpen_ReplaysEveryEntryInOrder() throws IOException {
+        // Arrange
+        try (final var log = WriteAheadLog.open(directory, 0, store())) {
+            log.append(created(1, "Ann Lee")).join();
+            log.append(created(2, "Bob Ray")).join();
+            log.append(WriteAheadLog.deleted(List.of("Ann Lee"))).join();
+            log.append(created(3, "Cy Po")).join();
+        }
+        final var replayed = store();
+
+        // Act
+        WriteAheadLog.open(directory, 0, replayed).close();
+
+        // Assert
+        assertEquals(List.of("Bob Ray", "Cy Po"), EmployeeStoreContractTest.names(replayed.snapshot()));
+    }
+
+    @Test
+    void open_AfterSequence_SkipsEntriesTheSnapshotIncludes() throws IOException {
+        // Arrange
+        try (final var log = WriteAheadLog.open(directory, 0, store())) {
+            log.append(created(1, "Ann Lee")).join();
+            log.append(created(2, "Bob Ray")).join();
+            log.append(created(3, "Cy Po")).join();
+        }
+        final var replayed = store();
+
+        // Act
+        WriteAheadLog.open(directory, 2, replayed).close();
+
+        // Assert
+        assertEquals(List.of("Cy Po"), EmployeeStoreContractTest.names(replayed.snapshot()));
+    }
+
+    @Test
+    void open_TornTail_ReplaysUpToItAndKeepsLoggingAfterIt() throws IOException {
+        // Arrange
+        try (final var log = WriteAheadLog.open(directory, 0, store())) {
+            log.append(created(1, "Ann Lee")).join();
+            log.append(created(2, "Bob Ray")).join();
+        }
+        try (final var channel = Files.newByteChannel(segment(1), StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+
+        // Act
+        final var afterCrash = store();
+        try (final var log = WriteAheadLog.open(directory, 0, afterCrash)) {
+            log.append(created(3, "Cy Po")).join();
+        }
+        final var afterRestart = store();
+        WriteAheadLog.open(directory, 0, afterRestart).close();
+
+        // Assert
+        assertEquals(List.of("Ann Lee"), EmployeeStoreContractTest.names(afterCrash.snapshot()));
+        assertEquals(List.of("Ann Lee", "Cy Po"), EmployeeStoreContractTest.names(afterRestart.snapshot()));
+    }
+
+    @Test
+    void open_CorruptChecksum_StopsReplayingThatSegment() throws IOException {
+        // Arrange
+        try (final var log = WriteAheadLog.open(directory, 0, store())) {
+            log.append(created(1, "Ann Lee")).join();
+            log.append(created(2, "Bob Ray")).join();
+        }
+        final var bytes = Files.readAllBytes(segment(1));
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(segment(1), bytes);
+        final var replayed = store();
+
+        // Act
+        WriteAheadLog.open(directory, 0, replayed).close();
+
+        // Assert
+        assertEquals(List.of("Ann Lee"), EmployeeStoreContractTest.names(replayed.snapshot()));
+    }
+
+    @Test
+    void open_SequenceGap_SetsTheRestAsideAndContinuesWithoutIt() throws IOException {
+        // Arrange: entry 2 is lost, so entry 3 and the segment after it were logged on top of a missing mutation
+        try (final var log = WriteAheadLog.open(directory, 0, store())) {
+            log.append(created(1, "Ann Lee")).join();
+            log.rotate().join();
+            log.append(created(2, "Bob Ray")).join();
+            log.rotate().join();
+            log.append(created(3, "Cy Po")).join();
+            log.rotate().join();
+            log.append(created(4, "Di Wu")).join();
+        }
+        Files.write(segment(1), Files.readAllBytes(segment(3)), StandardOpenOption.APPEND);
+        Files.delete(segment(2));
+        Files.delete(segment(3));
+
+        // Act
+        final var afterGap = store();
+        try (final var log = WriteAheadLog.open(directory, 0, afterGap)) {
+            log.append(created(5, "Ed Oz")).join();
+        }
+        final var afterRestart = store();
+        WriteAheadLog.open(directory, 0, afterRestart).close();
+
+        // Assert
+        assertEquals(List.of("Ann Lee"), EmployeeStoreContractTest.names(afterGap.snapshot()));
+        assertEquals(List.of("Ann Lee", "Ed Oz"), EmployeeStoreContractTest.names(afterRestart.snapshot()));
+        try (final var files = Files.list(directory)) {
+            assertEquals(
+                    2,
+                    files.filter(file -> file.getFileName().toString().contains(".orphaned"))
+                            .count());
+        }
+    }
+
+    @Test
+    void append_ConcurrentWriters_CompletesAndReplaysEveryEntry() throws Exception {
+        // Arrange
+        final var threads = 8;
+        final var appendsPerThread = 200;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final var futures = new ArrayList<CompletableFuture<Void>>();
+
+        // Act
+        try (final var log = WriteAheadLog.open(directory, 0, store())) {
+            final var writers = new ArrayList<CompletableFuture<Void>>();
+            for (int t = 0; t < threads; t++) {
+                final var thread = t;
+                writers.add(CompletableFuture.runAsync(
+                        () -> {
+                            for (int i = 0; i < appendsPerThread; i++) {
+                                final var number = thread * appendsPerThread + i;
+                                final var future = log.append(created(number, "Employee " + number));
+                                synchronized (futures) {
+                                    futures.add(future);
+                                }
+                            }
+                        },
+                        executor));
+            }
+            CompletableFuture.allOf(writers.toArray(CompletableFuture[]::new)).join();
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } finally {
+            executor.shutdown();
+        }
+        final var replayed = store();
+        WriteAheadLog.open(directory, 0, replayed).close();
+
+        // Assert
+        assertEquals(threads * appendsPerThread, futures.size());
+        assertTrue(futures.stream().allMatch(future -> future.isDone() && !future.isCompletedExceptionally()));
+        assertEquals(threads * appendsPerThread, replayed.size());
+    }
+
+    @Test
+    void deleteSegmentsThrough_RotatedSequence_LeavesOnlyLaterEntries() throws IOException {
+        // Arrange
+        final long rotatedAt;
+        try (final var log = WriteAheadLog.open(directory, 0, store())) {
+            log.append(created(1, "Ann Lee")).join();
+            log.append(created(2, "Bob Ray")).join();
+            rotatedAt = log.rotate().join();
+            log.append(created(3, "Cy Po")).join();
+
+            // Act
+            log.deleteSegmentsThrough(rotatedAt);
+        }
+        final var replayed = store();
+        WriteAheadLog.open(directory, rotatedAt, replayed).close();
+
+        // Assert
+        assertEquals(2, rotatedAt);
+        assertFalse(Files.exists(segment(1)));
+        assertEquals(List.of("Cy Po"), EmployeeStoreContractTest.names(replayed.snapshot()));
+    }
+
+    @Test
+    void append_AfterFailedWrite_FailsUntilReopened() throws IOException {
+        // Arrange: the segment after the rotation is a device where every write fails
+        final var full = Path.of("/dev/full");
+        Assumptions.assumeTrue(Files.isWritable(full));
+        final CompletableFuture<Void> failed;
+        final CompletableFuture<Void> next;
+        try (final var log = WriteAheadLog.open(directory, 0, store())) {
+            log.append(created(1, "Ann Lee")).join();
+            Files.createSymbolicLink(segment(2), full);
+            log.rotate().join();
+
+            // Act
+            failed = log.append(created(2, "Bob Ray"));
+            assertThrows(CompletionException.class, failed::join);
+            next = log.append(created(3, "Cy Po"));
+        }
+        Files.delete(segment(2));
+        final var replayed = store();
+        WriteAheadLog.open(directory, 0, replayed).close();
+
+        // Assert
+        assertTrue(next.isCompletedExceptionally());
+        assertInstanceOf(IOException.class, assertThrows(CompletionException.class, next::join).getCause());
+        assertEquals(List.of("Ann Lee"), EmployeeStoreContractTest.names(replayed.snapshot()));
+    }
+
+    private Path segment(long start) {
+        return directory.resolve("%020d.wal".formatted(start));
+    }
+
+    private static EmployeeStore store() {
+        return new SegmentedEmployeeStore(List.of());
+    }
+
+    private static WriteAheadLog.Mutation created(int number, String name) {
+        return WriteAheadLog.created(List.of(EmployeeStoreContractTest.employee(number, name)));
+    }
+}
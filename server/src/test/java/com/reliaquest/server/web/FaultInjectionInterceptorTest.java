@@ -0,0 +1,145 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.controller.MockEmployeeController;
+import com.reliaquest.server.controller.MockEmployeeControllerAdvice;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.store.EmployeeStore;
+import com.reliaquest.server.store.SegmentedEmployeeStore;
+import com.reliaquest.server.web.FaultInjectionInterceptor.InjectedResetException;
+import com.reliaquest.server.web.FaultProfile.EndpointFaults;
+import jakarta.servlet.Filter;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReference;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class FaultInjectionInterceptorTest {
+
+    private static final String EMPLOYEE_PATH = "/api/v1/employee";
+
+    private static final String INPUT = "{\"name\":\"Ann Lee\",\"salary\":50000,\"age\":30,\"title\":\"Engineer\"}";
+
+    private final EmployeeStore employeeStore = new SegmentedEmployeeStore(List.of());
+
+    private final FaultInjectionInterceptor interceptor =
+            new FaultInjectionInterceptor(FaultProfile.NONE, new ObjectMapper());
+
+    // the response of the last request, reachable even when the request ends in an exception
+    private final AtomicReference<MockHttpServletResponse> lastResponse = new AtomicReference<>();
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        final Filter captureResponse = (request, response, chain) -> {
+            lastResponse.set((MockHttpServletResponse) response);
+            chain.doFilter(request, response);
+        };
+        mockMvc = MockMvcBuilders.standaloneSetup(
+                        new MockEmployeeController(new MockEmployeeService(new Faker(Locale.ROOT), employeeStore)))
+                .setControllerAdvice(new MockEmployeeControllerAdvice())
+                .addInterceptors(interceptor)
+                .addFilters(captureResponse)
+                .build();
+    }
+
+    @Test
+    void preHandle_NoFaults_ReachesTheController() throws Exception {
+        // Act & Assert
+        mockMvc.perform(createRequest()).andExpect(status().isOk());
+        assertEquals(1, employeeStore.size());
+    }
+
+    @Test
+    void preHandle_ErrorRateOne_AnswersWithTheErrorStatusInsteadOfTheController() throws Exception {
+        // Arrange
+        interceptor.setProfile(new FaultProfile(null, 1, 503, 0, null));
+
+        // Act & Assert
+        mockMvc.perform(createRequest())
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.error").value("Injected fault"));
+        assertEquals(0, employeeStore.size());
+    }
+
+    @Test
+    void preHandle_MatchingEndpoint_OverridesTheProfileRates() throws Exception {
+        // Arrange: every request fails except the GETs the endpoint rule exempts
+        interceptor.setProfile(
+                new FaultProfile(null, 1, 0, 0, List.of(endpoint("GET", EMPLOYEE_PATH + "/**", 0.0, null))));
+
+        // Act & Assert
+        mockMvc.perform(get(EMPLOYEE_PATH)).andExpect(status().isOk());
+        mockMvc.perform(createRequest()).andExpect(status().isInternalServerError());
+        assertEquals(0, employeeStore.size());
+    }
+
+    @Test
+    void preHandle_SeveralMatchingEndpoints_FirstOneWins() throws Exception {
+        // Arrange
+        interceptor.setProfile(new FaultProfile(
+                null,
+                0,
+                0,
+                0,
+                List.of(
+                        endpoint("DELETE", EMPLOYEE_PATH + "/**", 1.0, null),
+                        endpoint(null, EMPLOYEE_PATH + "/**", 0.0, null),
+                        endpoint(null, "/**", 1.0, null))));
+
+        // Act & Assert
+        mockMvc.perform(get(EMPLOYEE_PATH)).andExpect(status().isOk());
+        mockMvc.perform(delete(EMPLOYEE_PATH).contentType(MediaType.APPLICATION_JSON).content("{\"name\":\"Nobody\"}"))
+                .andExpect(status().isInternalServerError());
+    }
+
+    @Test
+    void preHandle_ResetRateOne_CommitsATruncatedBodyAndPassesThroughTheAdvice() {
+        // Arrange
+        interceptor.setProfile(new FaultProfile(null, 0, 0, 1, null));
+
+        // Act
+        assertThrows(InjectedResetException.class, () -> mockMvc.perform(createRequest()));
+
+        // Assert: the advice did not turn the reset into a 500, and the body stops short of its promised length
+        final var response = lastResponse.get();
+        assertTrue(response.isCommitted());
+        assertEquals(200, response.getStatus());
+        assertEquals("{", response.getContentAsString());
+        assertTrue(response.getContentLength() > response.getContentAsByteArray().length);
+        assertEquals(0, employeeStore.size());
+    }
+
+    @Test
+    void preHandle_ResetForOneEndpointOnly_LeavesTheOthersAlone() throws Exception {
+        // Arrange
+        interceptor.setProfile(new FaultProfile(null, 0, 0, 0, List.of(endpoint("POST", EMPLOYEE_PATH, null, 1.0))));
+
+        // Act & Assert
+        mockMvc.perform(get(EMPLOYEE_PATH)).andExpect(status().isOk());
+        assertThrows(InjectedResetException.class, () -> mockMvc.perform(createRequest()));
+    }
+
+    private static MockHttpServletRequestBuilder createRequest() {
+        return post(EMPLOYEE_PATH).contentType(MediaType.APPLICATION_JSON).content(INPUT);
+    }
+
+    private static EndpointFaults endpoint(String method, String path, Double errorRate, Double resetRate) {
+        return new EndpointFaults(method, path, null, errorRate, null, resetRate);
+    }
+}
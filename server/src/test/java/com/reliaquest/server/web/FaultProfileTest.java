@@ -0,0 +1,138 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.web.FaultProfile.Distribution;
+import com.reliaquest.server.web.FaultProfile.EndpointFaults;
+import com.reliaquest.server.web.FaultProfile.Latency;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class FaultProfileTest {
+
+    @Test
+    void constructor_Unset_DefaultsToNoFaults() {
+        // Act
+        final var profile = new FaultProfile(null, 0, 0, 0, null);
+
+        // Assert
+        assertEquals(Latency.NONE, profile.latency());
+        assertEquals(500, profile.errorStatus());
+        assertEquals(List.of(), profile.endpoints());
+        assertFalse(profile.hasFaults());
+        assertFalse(FaultProfile.NONE.hasFaults());
+    }
+
+    @Test
+    void constructor_AnyFault_HasFaults() {
+        // Act & Assert
+        assertTrue(new FaultProfile(null, 0.1, 0, 0, null).hasFaults());
+        assertTrue(new FaultProfile(null, 0, 0, 0.1, null).hasFaults());
+        assertTrue(new FaultProfile(fixed(Duration.ofMillis(1)), 0, 0, 0, null).hasFaults());
+        assertTrue(new FaultProfile(null, 0, 0, 0, List.of(endpoint("/api/**", null, null))).hasFaults());
+    }
+
+    @Test
+    void constructor_InvalidRates_Throws() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new FaultProfile(null, -0.1, 0, 0, null));
+        assertThrows(IllegalArgumentException.class, () -> new FaultProfile(null, 0, 0, -0.1, null));
+        assertThrows(IllegalArgumentException.class, () -> new FaultProfile(null, 0.6, 0, 0.5, null));
+        assertDoesNotThrow(() -> new FaultProfile(null, 0.5, 0, 0.5, null));
+    }
+
+    @Test
+    void endpointFaults_InvalidRule_Throws() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> endpoint(null, 0.1, null));
+        assertThrows(IllegalArgumentException.class, () -> endpoint(" ", 0.1, null));
+        assertThrows(IllegalArgumentException.class, () -> endpoint("/api/**", 0.7, 0.7));
+        assertThrows(IllegalArgumentException.class, () -> endpoint("/api/**", -1.0, null));
+        assertDoesNotThrow(() -> endpoint("/api/**", null, null));
+    }
+
+    @Test
+    void latency_ParetoWithoutShape_Throws() {
+        // Act & Assert
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new Latency(Distribution.PARETO, null, null, Duration.ofMillis(10), 0, null));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new Latency(Distribution.PARETO, null, null, Duration.ofMillis(10), -1, null));
+    }
+
+    @Test
+    void distribution_Of_IgnoresCaseAndSurroundingSpace() {
+        // Act & Assert
+        assertEquals(Distribution.PARETO, Distribution.of(" Pareto "));
+        assertEquals("normal", Distribution.NORMAL.getValue());
+        assertThrows(IllegalArgumentException.class, () -> Distribution.of("uniform"));
+    }
+
+    @Test
+    void sampleNanos_NoneAndFixed_AreExact() {
+        // Arrange
+        final var random = new Random(42);
+
+        // Act & Assert
+        assertEquals(0, Latency.NONE.sampleNanos(random));
+        assertEquals(Duration.ofMillis(20).toNanos(), fixed(Duration.ofMillis(20)).sampleNanos(random));
+    }
+
+    @Test
+    void sampleNanos_BeyondMax_IsCapped() {
+        // Arrange
+        final var latency =
+                new Latency(Distribution.FIXED, Duration.ofSeconds(10), null, null, 0, Duration.ofSeconds(1));
+
+        // Act & Assert
+        assertEquals(Duration.ofSeconds(1).toNanos(), latency.sampleNanos(new Random(42)));
+    }
+
+    @Test
+    void sampleNanos_Normal_IsNeverNegative() {
+        // Arrange
+        final var latency =
+                new Latency(Distribution.NORMAL, Duration.ofMillis(1), Duration.ofMillis(10), null, 0, null);
+        final var random = new Random(42);
+
+        // Act & Assert
+        var belowMean = 0;
+        for (int i = 0; i < 10_000; i++) {
+            final var nanos = latency.sampleNanos(random);
+            assertTrue(nanos >= 0);
+            belowMean += nanos < Duration.ofMillis(1).toNanos() ? 1 : 0;
+        }
+        assertTrue(belowMean > 4000, "draws below the mean: " + belowMean);
+    }
+
+    @Test
+    void sampleNanos_Pareto_StartsAtScaleWithALongTailUpToMax() {
+        // Arrange
+        final var scale = Duration.ofMillis(10);
+        final var max = Duration.ofSeconds(1);
+        final var latency = new Latency(Distribution.PARETO, null, null, scale, 1.5, max);
+        final var random = new Random(42);
+
+        // Act & Assert
+        var atLeastTenTimesScale = 0;
+        for (int i = 0; i < 10_000; i++) {
+            final var nanos = latency.sampleNanos(random);
+            assertTrue(nanos >= scale.toNanos() && nanos <= max.toNanos(), "draw out of range: " + nanos);
+            atLeastTenTimesScale += nanos >= 10 * scale.toNanos() ? 1 : 0;
+        }
+        // P(X >= 10 * scale) = 10^-1.5, about 3%
+        assertTrue(atLeastTenTimesScale > 200 && atLeastTenTimesScale < 450, "tail draws: " + atLeastTenTimesScale);
+    }
+
+    private static Latency fixed(Duration mean) {
+        return new Latency(Distribution.FIXED, mean, null, null, 0, null);
+    }
+
+    private static EndpointFaults endpoint(String path, Double errorRate, Double resetRate) {
+        return new EndpointFaults(null, path, null, errorRate, null, resetRate);
+    }
+}
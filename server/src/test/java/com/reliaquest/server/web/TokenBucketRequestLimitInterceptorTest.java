@@ -0,0 +1,134 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class TokenBucketRequestLimitInterceptorTest {
+
+    private static final String CLIENT_HEADER = "X-Client-Id";
+
+    private final AtomicLong nanoTime = new AtomicLong(1_000_000_000L);
+
+    @Test
+    void preHandle_BurstUpToCapacity_AdmitsThenLimits() {
+        // Arrange
+        final var interceptor = interceptor(3, Duration.ofHours(1), CLIENT_HEADER);
+
+        // Act
+        final var first = handle(interceptor, "a");
+        final var second = handle(interceptor, "a");
+        final var third = handle(interceptor, "a");
+        final var fourth = handle(interceptor, "a");
+
+        // Assert
+        assertEquals("2", first.getHeader(TokenBucketRequestLimitInterceptor.REMAINING_HEADER));
+        assertEquals("1", second.getHeader(TokenBucketRequestLimitInterceptor.REMAINING_HEADER));
+        assertEquals("0", third.getHeader(TokenBucketRequestLimitInterceptor.REMAINING_HEADER));
+        assertEquals(HttpStatus.OK.value(), third.getStatus());
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), fourth.getStatus());
+        assertEquals("0", fourth.getHeader(TokenBucketRequestLimitInterceptor.REMAINING_HEADER));
+    }
+
+    @Test
+    void preHandle_Limited_RetryAfterIsRefillPeriodRoundedUpToSeconds() {
+        // Arrange
+        final var interceptor = interceptor(1, Duration.ofMillis(2500), CLIENT_HEADER);
+        handle(interceptor, "a");
+
+        // Act
+        final var limited = handle(interceptor, "a");
+
+        // Assert
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), limited.getStatus());
+        assertEquals("3", limited.getHeader(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void preHandle_AfterRefillPeriod_AdmitsAgain() {
+        // Arrange
+        final var interceptor = interceptor(1, Duration.ofMillis(50), CLIENT_HEADER);
+        handle(interceptor, "a");
+        nanoTime.addAndGet(Duration.ofMillis(49).toNanos());
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), handle(interceptor, "a").getStatus());
+
+        // Act
+        nanoTime.addAndGet(Duration.ofMillis(1).toNanos());
+        final var refilled = handle(interceptor, "a");
+
+        // Assert
+        assertEquals(HttpStatus.OK.value(), refilled.getStatus());
+    }
+
+    @Test
+    void preHandle_ClientsHaveSeparateBuckets_FallingBackToRemoteAddress() {
+        // Arrange
+        final var interceptor = interceptor(1, Duration.ofHours(1), CLIENT_HEADER);
+        handle(interceptor, "a");
+
+        // Act
+        final var otherClient = handle(interceptor, "b");
+        final var noHeader = handle(interceptor, null);
+        final var noHeaderAgain = handle(interceptor, null);
+
+        // Assert
+        assertEquals(HttpStatus.OK.value(), otherClient.getStatus());
+        assertEquals(HttpStatus.OK.value(), noHeader.getStatus());
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), noHeaderAgain.getStatus());
+    }
+
+    @Test
+    void preHandle_PastTrackedClientLimit_EvictsIdleClients() {
+        // Arrange
+        final var interceptor = interceptor(1, Duration.ofMillis(1), CLIENT_HEADER);
+        for (int i = 0; i < 10_000; i++) {
+            handle(interceptor, "idle-" + i);
+        }
+        nanoTime.addAndGet(Duration.ofMillis(1).toNanos());
+
+        // Act
+        final var response = handle(interceptor, "new");
+
+        // Assert
+        assertEquals(HttpStatus.OK.value(), response.getStatus());
+        assertEquals(1, interceptor.trackedClients());
+    }
+
+    @Test
+    void preHandle_PastTrackedClientLimit_KeepsActiveClientsLimited() {
+        // Arrange
+        final var interceptor = interceptor(1, Duration.ofHours(1), CLIENT_HEADER);
+        for (int i = 0; i <= 10_000; i++) {
+            handle(interceptor, "active-" + i);
+        }
+
+        // Act
+        final var again = handle(interceptor, "active-0");
+        handle(interceptor, "new");
+
+        // Assert
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), again.getStatus());
+        assertEquals(10_002, interceptor.trackedClients());
+    }
+
+    private TokenBucketRequestLimitInterceptor interceptor(int capacity, Duration refillPeriod, String clientHeader) {
+        return new TokenBucketRequestLimitInterceptor(capacity, refillPeriod, clientHeader, nanoTime::get);
+    }
+
+    private static MockHttpServletResponse handle(TokenBucketRequestLimitInterceptor interceptor, String client) {
+        final var request = new MockHttpServletRequest();
+        request.setRemoteAddr("10.0.0.1");
+        if (client != null) {
+            request.addHeader(CLIENT_HEADER, client);
+        }
+        final var response = new MockHttpServletResponse();
+        interceptor.preHandle(request, response, new Object());
+        return response;
+    }
+}